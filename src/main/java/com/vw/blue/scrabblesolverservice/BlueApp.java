@@ -2,9 +2,8 @@ package com.vw.blue.scrabblesolverservice;
 
 import com.vw.blue.scrabblesolverservice.config.ApplicationProperties;
 
-import com.vw.blue.scrabblesolverservice.domain.Word;
-import com.vw.blue.scrabblesolverservice.repository.WordRepository;
 import com.vw.blue.scrabblesolverservice.service.WordDataPopulationEvent;
+import com.vw.blue.scrabblesolverservice.service.WordImportService;
 import com.vw.blue.scrabblesolverservice.service.WordService;
 import io.github.jhipster.config.DefaultProfileUtil;
 import io.github.jhipster.config.JHipsterConstants;
@@ -13,6 +12,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -23,16 +23,17 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.core.env.Environment;
 
 import javax.annotation.PostConstruct;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.net.InetAddress;
-import java.net.URISyntaxException;
 import java.net.UnknownHostException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.stream.Stream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @SpringBootApplication
 @EnableConfigurationProperties({LiquibaseProperties.class, ApplicationProperties.class})
@@ -42,13 +43,10 @@ public class BlueApp {
 
     private final Environment env;
 
-    private WordService wordService;
-
     private ApplicationEventPublisher applicationEventPublisher;
 
-    public BlueApp(Environment env, WordService wordService, ApplicationEventPublisher applicationEventPublisher) {
+    public BlueApp(Environment env, ApplicationEventPublisher applicationEventPublisher) {
         this.env = env;
-        this.wordService = wordService;
         this.applicationEventPublisher = applicationEventPublisher;
     }
 
@@ -117,27 +115,35 @@ public class BlueApp {
     }
 
     @Bean
-    public CommandLineRunner loadData(WordRepository wordRepository) throws URISyntaxException, IOException {
+    public CommandLineRunner loadData(WordImportService wordImportService, WordService wordService,
+                                      @Qualifier("taskExecutor") Executor taskExecutor) {
 
         return (args) -> {
 
-            wordService.purge();
-
-            Path path = Paths.get(getClass().getClassLoader()
-                .getResource("words.txt").toURI());
-
-            Stream<String> lines = Files.lines(path);
-            lines
-                .filter(value -> value != null && value.length() > 0)
-                .distinct()
-                .forEach(word -> wordService.save(new Word(word.trim())));
-            lines.close();
+            // the lexicon is loaded from its own read of the file, so searches are served before the DB is filled
+            CompletableFuture<Void> lexiconLoaded = CompletableFuture.runAsync(() -> {
+                try (BufferedReader reader = openWords()) {
+                    wordService.loadLexicon(reader.lines());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, taskExecutor);
+
+            long total;
+            try (BufferedReader reader = openWords()) {
+                total = wordImportService.importWords(reader.lines());
+            }
+            lexiconLoaded.join();
 
             log.info("-------------------------------");
-            long total = wordRepository.count();
             log.info("The total words: {}", total);
 
             applicationEventPublisher.publishEvent(new WordDataPopulationEvent(this, "Word data populish is completed with a total of " + total + " data entries"));
         };
     }
+
+    private BufferedReader openWords() {
+        return new BufferedReader(new InputStreamReader(
+            getClass().getClassLoader().getResourceAsStream("words.txt"), StandardCharsets.UTF_8));
+    }
 }
@@ -1,7 +1,13 @@
 package com.vw.blue.scrabblesolverservice.config;
 
+import com.vw.blue.scrabblesolverservice.service.lexicon.LexiconType;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Properties specific to Blue.
  * <p>
@@ -10,4 +16,232 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
+
+    private final Lexicon lexicon = new Lexicon();
+
+    private final Lexicons lexicons = new Lexicons();
+
+    private final WordImport wordImport = new WordImport();
+
+    private final Search search = new Search();
+
+    public Lexicon getLexicon() {
+        return lexicon;
+    }
+
+    public Lexicons getLexicons() {
+        return lexicons;
+    }
+
+    public WordImport getWordImport() {
+        return wordImport;
+    }
+
+    public Search getSearch() {
+        return search;
+    }
+
+    public static class Lexicon {
+
+        private LexiconType type = LexiconType.TRIE;
+
+        // the longest racks looked up in the signature index instead of the lexicon, 0 to disable it
+        private int signatureMaxRackLength = 7;
+
+        // the binary snapshot a dawg, flat or off-heap lexicon is mapped from, written on the first start, null to disable it
+        private String snapshotFile;
+
+        public LexiconType getType() {
+            return type;
+        }
+
+        public void setType(LexiconType type) {
+            this.type = type;
+        }
+
+        public int getSignatureMaxRackLength() {
+            return signatureMaxRackLength;
+        }
+
+        public void setSignatureMaxRackLength(int signatureMaxRackLength) {
+            this.signatureMaxRackLength = signatureMaxRackLength;
+        }
+
+        public String getSnapshotFile() {
+            return snapshotFile;
+        }
+
+        public void setSnapshotFile(String snapshotFile) {
+            this.snapshotFile = snapshotFile;
+        }
+    }
+
+    public static class Lexicons {
+
+        // the name under which the lexicon of the words in the DB is searched
+        private String defaultName = "default";
+
+        // the time after which a lexicon which was not searched is evicted
+        private Duration idleTimeout = Duration.ofMinutes(30);
+
+        // the number of words of the loaded lexicons above which the least recently searched ones are evicted
+        private int maxResidentWords = 2_000_000;
+
+        // the word lists, by name
+        private final Map<String, Source> sources = new LinkedHashMap<>();
+
+        public String getDefaultName() {
+            return defaultName;
+        }
+
+        public void setDefaultName(String defaultName) {
+            this.defaultName = defaultName;
+        }
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public int getMaxResidentWords() {
+            return maxResidentWords;
+        }
+
+        public void setMaxResidentWords(int maxResidentWords) {
+            this.maxResidentWords = maxResidentWords;
+        }
+
+        public Map<String, Source> getSources() {
+            return sources;
+        }
+
+        public static class Source {
+
+            // the resource of the word list, one word per line, e.g. classpath:lexicons/twl.txt or file:/data/twl.txt
+            private String location;
+
+            private LexiconType type = LexiconType.TRIE;
+
+            // english, spanish, german or polish, any other than english needs the trie type
+            private String alphabet = "english";
+
+            public String getLocation() {
+                return location;
+            }
+
+            public void setLocation(String location) {
+                this.location = location;
+            }
+
+            public LexiconType getType() {
+                return type;
+            }
+
+            public void setType(LexiconType type) {
+                this.type = type;
+            }
+
+            public String getAlphabet() {
+                return alphabet;
+            }
+
+            public void setAlphabet(String alphabet) {
+                this.alphabet = alphabet;
+            }
+        }
+    }
+
+    public static class WordImport {
+
+        // the number of words inserted per JDBC batch and transaction
+        private int batchSize = 5000;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
+
+    public static class Search {
+
+        // the threads running the searches, off the request threads
+        private int threads = Runtime.getRuntime().availableProcessors();
+
+        // the searches waiting for a thread, beyond which they are rejected
+        private int queueCapacity = 100;
+
+        // the threads searching the racks of the batches, shared by all the batches, with a queue of queueCapacity
+        private int batchThreads = Runtime.getRuntime().availableProcessors();
+
+        private final Cache cache = new Cache();
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchThreads() {
+            return batchThreads;
+        }
+
+        public void setBatchThreads(int batchThreads) {
+            this.batchThreads = batchThreads;
+        }
+
+        public Cache getCache() {
+            return cache;
+        }
+
+        public static class Cache {
+
+            // the searches kept, one per rack letters and limit, the least used are evicted beyond
+            private long maxEntries = 10_000;
+
+            private long timeToLiveSeconds = 3600;
+
+            // the largest limit of the searches kept, so an entry holds at most this many words
+            private int maxLimit = 100;
+
+            public long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+
+            public long getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(long timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public int getMaxLimit() {
+                return maxLimit;
+            }
+
+            public void setMaxLimit(int maxLimit) {
+                this.maxLimit = maxLimit;
+            }
+        }
+    }
 }
@@ -20,12 +20,26 @@ import java.util.concurrent.Executor;
 @EnableScheduling
 public class AsyncConfiguration implements AsyncConfigurer {
 
+    /**
+     * The name of the executor running the searches.
+     */
+    public static final String SEARCH_EXECUTOR = "searchExecutor";
+
+    /**
+     * The name of the executor searching the racks of the batches.
+     */
+    public static final String BATCH_EXECUTOR = "batchExecutor";
+
     private final Logger log = LoggerFactory.getLogger(AsyncConfiguration.class);
 
     private final TaskExecutionProperties taskExecutionProperties;
 
-    public AsyncConfiguration(TaskExecutionProperties taskExecutionProperties) {
+    private final ApplicationProperties applicationProperties;
+
+    public AsyncConfiguration(TaskExecutionProperties taskExecutionProperties,
+                              ApplicationProperties applicationProperties) {
         this.taskExecutionProperties = taskExecutionProperties;
+        this.applicationProperties = applicationProperties;
     }
 
     @Override
@@ -40,6 +54,42 @@ public class AsyncConfiguration implements AsyncConfigurer {
         return new ExceptionHandlingAsyncTaskExecutor(executor);
     }
 
+    /**
+     * The searches run on an executor of their own, so a burst of expensive searches cannot take all the request
+     * threads. Once its threads are busy and its queue is full, a search is rejected right away.
+     *
+     * @return the executor running the searches.
+     */
+    @Bean(name = SEARCH_EXECUTOR)
+    public ThreadPoolTaskExecutor searchExecutor() {
+        ApplicationProperties.Search search = applicationProperties.getSearch();
+        log.debug("Creating Search Task Executor: {} threads, queue of {}", search.getThreads(), search.getQueueCapacity());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(search.getThreads());
+        executor.setMaxPoolSize(search.getThreads());
+        executor.setQueueCapacity(search.getQueueCapacity());
+        executor.setThreadNamePrefix("blue-search-");
+        return executor;
+    }
+
+    /**
+     * The racks of the batches are searched on an executor of their own, shared by all the batches, with a queue as
+     * long as the one of the searches. Once its threads are busy and its queue is full, a batch is rejected right away.
+     *
+     * @return the executor searching the racks of the batches.
+     */
+    @Bean(name = BATCH_EXECUTOR)
+    public ThreadPoolTaskExecutor batchExecutor() {
+        ApplicationProperties.Search search = applicationProperties.getSearch();
+        log.debug("Creating Batch Task Executor: {} threads, queue of {}", search.getBatchThreads(), search.getQueueCapacity());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(search.getBatchThreads());
+        executor.setMaxPoolSize(search.getBatchThreads());
+        executor.setQueueCapacity(search.getQueueCapacity());
+        executor.setThreadNamePrefix("blue-batch-");
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new SimpleAsyncUncaughtExceptionHandler();
@@ -18,7 +18,9 @@ public class CacheConfiguration {
 
     private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
 
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
+    private final javax.cache.configuration.Configuration<Object, Object> wordsByRackConfiguration;
+
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
         JHipsterProperties.Cache.Caffeine caffeine = jHipsterProperties.getCache().getCaffeine();
 
         CaffeineConfiguration caffeineConfiguration = new CaffeineConfiguration();
@@ -26,6 +28,15 @@ public class CacheConfiguration {
         caffeineConfiguration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(caffeine.getTimeToLiveSeconds())));
         caffeineConfiguration.setStatisticsEnabled(true);
         jcacheConfiguration = caffeineConfiguration;
+
+        // the words found are never modified, so a hit returns them as they are instead of a copy
+        ApplicationProperties.Search.Cache cache = applicationProperties.getSearch().getCache();
+        CaffeineConfiguration<Object, Object> wordsByRack = new CaffeineConfiguration<>();
+        wordsByRack.setMaximumSize(OptionalLong.of(cache.getMaxEntries()));
+        wordsByRack.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(cache.getTimeToLiveSeconds())));
+        wordsByRack.setStoreByValue(false);
+        wordsByRack.setStatisticsEnabled(true);
+        wordsByRackConfiguration = wordsByRack;
     }
 
     @Bean
@@ -42,14 +53,20 @@ public class CacheConfiguration {
             createCache(cm, com.vw.blue.scrabblesolverservice.domain.Authority.class.getName());
             createCache(cm, com.vw.blue.scrabblesolverservice.domain.User.class.getName() + ".authorities");
             createCache(cm, com.vw.blue.scrabblesolverservice.domain.Word.class.getName());
+            createCache(cm, com.vw.blue.scrabblesolverservice.service.WordService.WORDS_BY_RACK_CACHE, wordsByRackConfiguration);
             // jhipster-needle-caffeine-add-entry
         };
     }
 
     private void createCache(javax.cache.CacheManager cm, String cacheName) {
+        createCache(cm, cacheName, jcacheConfiguration);
+    }
+
+    private void createCache(javax.cache.CacheManager cm, String cacheName,
+                             javax.cache.configuration.Configuration<Object, Object> configuration) {
         javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
         if (cache == null) {
-            cm.createCache(cacheName, jcacheConfiguration);
+            cm.createCache(cacheName, configuration);
         }
     }
 
@@ -5,6 +5,13 @@ import com.vw.blue.scrabblesolverservice.domain.Word;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 /**
  * Spring Data  repository for the Word entity.
  */
@@ -12,4 +19,35 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface WordRepository extends JpaRepository<Word, Long> {
 
+    /**
+     * The number of rows fetched from the database at once when streaming all the words.
+     */
+    String STREAM_FETCH_SIZE = "1000";
+
+    /**
+     * Stream the text of every word, without loading the entities into the persistence context or the second-level
+     * cache, and fetching the rows {@link #STREAM_FETCH_SIZE} at a time, so a scan of the whole dictionary does not
+     * hold it all in memory.
+     * <p>
+     * The stream must be consumed in a transaction, which PostgreSQL needs to honour the fetch size, and closed
+     * afterwards.
+     *
+     * @return the text of every word, in no particular order.
+     */
+    @Query("select w.text from Word w")
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HINT_READONLY, value = "true"),
+        @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    Stream<String> streamAllTexts();
+
+    /**
+     * Tell whether a word is saved with a text, in any case, the lexicon holding all the case variants of a text as
+     * one word.
+     *
+     * @param text the text.
+     * @return whether some word has the text, ignoring case.
+     */
+    boolean existsByTextIgnoreCase(String text);
 }
@@ -0,0 +1,33 @@
+package com.vw.blue.scrabblesolverservice.service;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the application ready to search once the lexicon holds the whole dictionary, and out of service until then.
+ * <p>
+ * It is part of the {@code readiness} health group, so a load balancer can route traffic to the application as soon
+ * as the lexicon is loaded, while the words are still being saved in the DB.
+ */
+@Component
+public class LexiconHealthIndicator extends AbstractHealthIndicator {
+
+    private final WordService wordService;
+
+    public LexiconHealthIndicator(WordService wordService) {
+        super("Lexicon health check failed");
+        this.wordService = wordService;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        if (wordService.isLexiconLoaded()) {
+            builder.up();
+        } else {
+            builder.outOfService();
+        }
+        builder.withDetail("words", wordService.getLexiconSize());
+        builder.withDetail("gaddagCurrent", wordService.isGaddagCurrent());
+    }
+}
@@ -0,0 +1,230 @@
+package com.vw.blue.scrabblesolverservice.service;
+
+import com.vw.blue.scrabblesolverservice.config.ApplicationProperties;
+import com.vw.blue.scrabblesolverservice.service.dto.LexiconDTO;
+import com.vw.blue.scrabblesolverservice.service.lexicon.Alphabet;
+import com.vw.blue.scrabblesolverservice.service.lexicon.Lexicon;
+import com.vw.blue.scrabblesolverservice.service.lexicon.LexiconType;
+import com.vw.blue.scrabblesolverservice.service.lexicon.ScoredWord;
+import com.vw.blue.scrabblesolverservice.service.lexicon.TopWordsCollector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Service searching the lexicons by name: the lexicon of the words in the DB, managed by the {@link WordService}, and
+ * read-only word lists, each searched with a lexicon of its own {@link LexiconType} and {@link Alphabet}.
+ * <p>
+ * A word list is loaded on its first search, and evicted once it was not searched for the idle timeout, or when the
+ * loaded word lists hold more words than allowed, least recently searched first. The lexicon of the DB is never
+ * evicted.
+ */
+@Service
+public class LexiconRegistry {
+
+    private final Logger log = LoggerFactory.getLogger(LexiconRegistry.class);
+
+    private final WordService wordService;
+
+    private final ResourceLoader resourceLoader;
+
+    private final String defaultName;
+
+    private final LexiconType defaultType;
+
+    private final Duration idleTimeout;
+
+    private final int maxResidentWords;
+
+    private final Map<String, NamedLexicon> lexicons = new LinkedHashMap<>();
+
+    // counts the searches of the word lists, ordering them from the least recently searched even on the same tick
+    private final AtomicLong searches = new AtomicLong();
+
+    public LexiconRegistry(WordService wordService, ApplicationProperties applicationProperties,
+                           ResourceLoader resourceLoader) {
+        this.wordService = wordService;
+        this.resourceLoader = resourceLoader;
+        ApplicationProperties.Lexicons properties = applicationProperties.getLexicons();
+        this.defaultName = properties.getDefaultName();
+        this.defaultType = applicationProperties.getLexicon().getType();
+        this.idleTimeout = properties.getIdleTimeout();
+        this.maxResidentWords = properties.getMaxResidentWords();
+        properties.getSources().forEach((name, source) -> {
+            if (!name.equals(defaultName)) {
+                lexicons.put(name, new NamedLexicon(name, source));
+            }
+        });
+    }
+
+    /**
+     * Find the best scoring words of a lexicon which only contain characters in the given text, see
+     * {@link WordService#findWordsOnTrie(String, int)}. The word list is loaded first if it is not.
+     *
+     * @param name the name of the lexicon.
+     * @param text the text.
+     * @param limit the maximum number of words to return, positive.
+     * @return a list of at most limit words, best scores first, then in alphabetical order, or empty if there is no
+     * lexicon of that name.
+     */
+    public Optional<List<String>> findWords(String name, String text, int limit) {
+        log.debug("Request to find Words in {} : {}, limit {}", name, text, limit);
+        if (defaultName.equals(name)) {
+            return Optional.of(wordService.findWordsOnTrie(text, limit));
+        }
+        NamedLexicon named = lexicons.get(name);
+        if (named == null) {
+            return Optional.empty();
+        }
+        Lexicon lexicon = acquire(named);
+        if (text == null || text.isEmpty()) {
+            return Optional.of(Collections.emptyList());
+        }
+        TopWordsCollector collector = new TopWordsCollector(limit);
+        lexicon.findWords(text.toLowerCase(Locale.ROOT).toCharArray(), collector);
+        return Optional.of(collector.getWords().stream().map(ScoredWord::getWord).collect(Collectors.toList()));
+    }
+
+    /**
+     * @return the lexicons, the one of the DB first, then the word lists in the order they are configured.
+     */
+    public List<LexiconDTO> getLexicons() {
+        List<LexiconDTO> result = new ArrayList<>();
+        result.add(new LexiconDTO(defaultName, defaultType, wordService.isLexiconLoaded(), wordService.getLexiconSize()));
+        for (NamedLexicon named : lexicons.values()) {
+            Lexicon lexicon = named.lexicon;
+            result.add(new LexiconDTO(named.name, named.source.getType(), lexicon != null,
+                lexicon == null ? 0 : lexicon.size()));
+        }
+        return result;
+    }
+
+    /**
+     * Evict the word lists which were not searched for the idle timeout.
+     * <p>
+     * This is scheduled to get fired every minute.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public synchronized void evictIdleLexicons() {
+        long now = System.nanoTime();
+        for (NamedLexicon named : lexicons.values()) {
+            if (named.lexicon != null && now - named.lastUsedNanos >= idleTimeout.toNanos()) {
+                evict(named, "idle");
+            }
+        }
+    }
+
+    /**
+     * Get the lexicon of a word list, loading it if it is not, and evicting the least recently searched ones beyond
+     * the budget
+     *
+     * @param named the word list
+     * @return its lexicon
+     */
+    private Lexicon acquire(NamedLexicon named) {
+        named.lastUsedNanos = System.nanoTime();
+        named.lastSearch = searches.incrementAndGet();
+        Lexicon lexicon = named.lexicon;
+        if (lexicon == null) {
+            synchronized (named) {
+                lexicon = named.lexicon;
+                if (lexicon == null) {
+                    lexicon = load(named);
+                    named.lexicon = lexicon;
+                }
+            }
+            evictBeyondBudget(named);
+        }
+        return lexicon;
+    }
+
+    private synchronized void evictBeyondBudget(NamedLexicon kept) {
+        List<NamedLexicon> loaded = lexicons.values().stream()
+            .filter(named -> named.lexicon != null)
+            .sorted(Comparator.comparingLong(named -> named.lastSearch))
+            .collect(Collectors.toList());
+        long residentWords = 0;
+        for (NamedLexicon named : loaded) {
+            residentWords += named.lexicon.size();
+        }
+        for (NamedLexicon named : loaded) {
+            if (residentWords <= maxResidentWords) {
+                break;
+            }
+            if (named != kept) {
+                residentWords -= named.lexicon.size();
+                evict(named, "least recently used");
+            }
+        }
+    }
+
+    private void evict(NamedLexicon named, String reason) {
+        log.info("Lexicon {} evicted, {}: {} words", named.name, reason, named.lexicon.size());
+        named.lexicon = null;
+    }
+
+    private Lexicon load(NamedLexicon named) {
+        long start = System.currentTimeMillis();
+        Resource resource = resourceLoader.getResource(named.source.getLocation());
+        List<String> words;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(),
+            StandardCharsets.UTF_8))) {
+            words = reader.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .map(named.alphabet::toWord)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read lexicon " + named.name + " from " + resource, e);
+        }
+        Lexicon lexicon = named.source.getType().of(words, named.alphabet);
+        log.info("Lexicon {} loaded in {} ms from {}: {} words", named.name, System.currentTimeMillis() - start,
+            resource, lexicon.size());
+        return lexicon;
+    }
+
+    /**
+     * A word list, and its lexicon while it is loaded.
+     */
+    private static final class NamedLexicon {
+
+        private final String name;
+
+        private final ApplicationProperties.Lexicons.Source source;
+
+        private final Alphabet alphabet;
+
+        private volatile Lexicon lexicon;
+
+        // the time of the last search, only compared with other System.nanoTime() values
+        private volatile long lastUsedNanos;
+
+        // the number of the last search, among the searches of all the word lists
+        private volatile long lastSearch;
+
+        private NamedLexicon(String name, ApplicationProperties.Lexicons.Source source) {
+            this.name = name;
+            this.source = source;
+            this.alphabet = Alphabet.named(source.getAlphabet());
+            if (!source.getType().supports(alphabet)) {
+                throw new IllegalArgumentException("Lexicon " + name + " is " + source.getType() + ", which does not "
+                    + "support the " + alphabet);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.vw.blue.scrabblesolverservice.service;
+
+import com.vw.blue.scrabblesolverservice.config.AsyncConfiguration;
+import com.vw.blue.scrabblesolverservice.service.dto.RackSearchDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service searching many racks at once, on the {@link AsyncConfiguration#BATCH_EXECUTOR batch executor} shared by all
+ * the batches.
+ * <p>
+ * A rack finds the same words as any of its anagrams, so the racks of a batch are grouped by their letters, sorted,
+ * and every group is searched once. A batch takes at most one task of the executor per thread, each searching the
+ * next rack not taken yet until there is none left, so no thread waits for the others.
+ */
+@Service
+public class WordBatchService {
+
+    private final Logger log = LoggerFactory.getLogger(WordBatchService.class);
+
+    private final WordService wordService;
+
+    private final ThreadPoolTaskExecutor executor;
+
+    public WordBatchService(WordService wordService,
+                            @Qualifier(AsyncConfiguration.BATCH_EXECUTOR) ThreadPoolTaskExecutor executor) {
+        this.wordService = wordService;
+        this.executor = executor;
+    }
+
+    /**
+     * Find the best scoring words of every rack, see {@link WordService#findWordsOnTrie(String, int)}.
+     *
+     * @param racks the racks, letters and blanks.
+     * @param limit the maximum number of words to return per rack, positive.
+     * @return the words of every rack, in the order of the racks, once they are all searched.
+     * @throws RejectedExecutionException if the batch executor is too busy to take the batch.
+     */
+    public CompletableFuture<List<RackSearchDTO>> findWordsOnTrie(List<String> racks, int limit) {
+        log.debug("Request to find Words of {} racks, limit {}", racks.size(), limit);
+        // the rack searched for every anagram key, the first of the batch
+        Map<String, Integer> searched = new LinkedHashMap<>();
+        for (int i = 0; i < racks.size(); i++) {
+            searched.putIfAbsent(WordService.anagramKey(racks.get(i)), i);
+        }
+        int[] firsts = searched.values().stream().mapToInt(Integer::intValue).toArray();
+        RackSearchDTO[] found = new RackSearchDTO[racks.size()];
+        AtomicInteger next = new AtomicInteger();
+        Runnable search = () -> {
+            try {
+                for (int n = next.getAndIncrement(); n < firsts.length; n = next.getAndIncrement()) {
+                    String rack = racks.get(firsts[n]);
+                    long start = System.nanoTime();
+                    List<String> words = wordService.findWordsOnTrie(rack, limit);
+                    found[firsts[n]] = new RackSearchDTO(rack, words, (System.nanoTime() - start) / 1_000, false);
+                }
+            } catch (RuntimeException e) {
+                // the batch fails, the other tasks stop at their next rack
+                next.set(firsts.length);
+                throw e;
+            }
+        };
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[Math.min(executor.getMaxPoolSize(), firsts.length)];
+        try {
+            for (int t = 0; t < tasks.length; t++) {
+                tasks[t] = CompletableFuture.runAsync(search, executor);
+            }
+        } catch (RejectedExecutionException e) {
+            // the tasks already taken stop at their next rack
+            next.set(firsts.length);
+            throw e;
+        }
+        return CompletableFuture.allOf(tasks).thenApply(done -> {
+            List<RackSearchDTO> results = new ArrayList<>(racks.size());
+            for (int i = 0; i < racks.size(); i++) {
+                int first = searched.get(WordService.anagramKey(racks.get(i)));
+                RackSearchDTO result = found[first];
+                results.add(first == i ? result
+                    : new RackSearchDTO(racks.get(i), result.getWords(), result.getDurationMicros(), true));
+            }
+            return results;
+        });
+    }
+}
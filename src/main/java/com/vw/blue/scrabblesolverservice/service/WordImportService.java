@@ -0,0 +1,174 @@
+package com.vw.blue.scrabblesolverservice.service;
+
+import com.vw.blue.scrabblesolverservice.config.ApplicationProperties;
+import com.vw.blue.scrabblesolverservice.domain.Word;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Service replacing all the {@link Word}s with the lines of a dictionary file.
+ * <p>
+ * The words are written with JDBC in large batches, one transaction per batch, rather than saved one by one through
+ * the entity manager, and with {@code COPY} when the database is PostgreSQL. Their identifiers are still allocated by
+ * the identifier generator of the entity, so the sequence is called once per allocation block and the words saved
+ * later get the following identifiers.
+ */
+@Service
+public class WordImportService {
+
+    private static final String INSERT_WORD = "insert into word (id, text) values (?, ?)";
+
+    private static final String COPY_WORDS = "copy word (id, text) from stdin";
+
+    private static final int PROGRESS_INTERVAL = 25_000;
+
+    private final Logger log = LoggerFactory.getLogger(WordImportService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int batchSize;
+
+    public WordImportService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                             EntityManagerFactory entityManagerFactory, ApplicationProperties applicationProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.batchSize = applicationProperties.getWordImport().getBatchSize();
+    }
+
+    /**
+     * Delete all the words, then insert the distinct trimmed non-empty lines as words.
+     *
+     * @param lines the lines, one word per line, read as they are inserted.
+     * @return the number of words inserted.
+     */
+    public long importWords(Stream<String> lines) {
+        long start = System.nanoTime();
+        IdentifierGenerator generator = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getMetamodel().entityPersister(Word.class).getIdentifierGenerator();
+        boolean copy = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+            connection.isWrapperFor(PGConnection.class));
+        log.debug("Importing words in batches of {} with {}", batchSize, copy ? "COPY" : "JDBC batch inserts");
+
+        int deleted = transactionTemplate.execute(status -> jdbcTemplate.update("delete from word"));
+        entityManagerFactory.getCache().evict(Word.class);
+        log.debug("Deleted {} words", deleted);
+
+        Set<String> seen = new HashSet<>();
+        List<String> batch = new ArrayList<>(batchSize);
+        long[] total = new long[1];
+        lines.map(String::trim)
+            .filter(line -> !line.isEmpty() && seen.add(line))
+            .forEach(word -> {
+                batch.add(word);
+                if (batch.size() == batchSize) {
+                    total[0] = insert(batch, generator, copy, total[0], start);
+                }
+            });
+        total[0] = insert(batch, generator, copy, total[0], start);
+
+        long elapsed = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Imported {} words in {} ms, {} rows/s", total[0], elapsed, total[0] * 1000 / elapsed);
+        return total[0];
+    }
+
+    /**
+     * Insert a batch of words in a transaction, then clear it.
+     *
+     * @return the number of words inserted so far.
+     */
+    private long insert(List<String> batch, IdentifierGenerator generator, boolean copy, long total, long start) {
+        if (batch.isEmpty()) {
+            return total;
+        }
+        transactionTemplate.execute(status -> {
+            SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+            long[] ids = new long[batch.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = ((Number) generator.generate(session, new Word(batch.get(i)))).longValue();
+            }
+            if (copy) {
+                copy(batch, ids);
+            } else {
+                jdbcTemplate.batchUpdate(INSERT_WORD, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        statement.setLong(1, ids[i]);
+                        statement.setString(2, batch.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return ids.length;
+                    }
+                });
+            }
+            return null;
+        });
+        long inserted = total + batch.size();
+        if (inserted / PROGRESS_INTERVAL > total / PROGRESS_INTERVAL) {
+            long elapsed = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            log.info("Imported {} words, {} rows/s", inserted, inserted * 1000 / elapsed);
+        }
+        batch.clear();
+        return inserted;
+    }
+
+    /**
+     * Stream the words to a PostgreSQL {@code COPY}, in its text format.
+     */
+    private void copy(List<String> batch, long[] ids) {
+        StringBuilder rows = new StringBuilder(batch.size() * 16);
+        for (int i = 0; i < ids.length; i++) {
+            rows.append(ids[i]).append('\t');
+            String word = batch.get(i);
+            for (int c = 0; c < word.length(); c++) {
+                char letter = word.charAt(c);
+                switch (letter) {
+                    case '\\': rows.append("\\\\"); break;
+                    case '\t': rows.append("\\t"); break;
+                    case '\n': rows.append("\\n"); break;
+                    case '\r': rows.append("\\r"); break;
+                    default: rows.append(letter);
+                }
+            }
+            rows.append('\n');
+        }
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn(COPY_WORDS, new StringReader(rows.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
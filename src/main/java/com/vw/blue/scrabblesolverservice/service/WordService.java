@@ -1,19 +1,45 @@
 package com.vw.blue.scrabblesolverservice.service;
 
+import com.vw.blue.scrabblesolverservice.config.ApplicationProperties;
 import com.vw.blue.scrabblesolverservice.domain.Word;
 import com.vw.blue.scrabblesolverservice.repository.WordRepository;
+import com.vw.blue.scrabblesolverservice.service.lexicon.Board;
+import com.vw.blue.scrabblesolverservice.service.lexicon.BoardLine;
+import com.vw.blue.scrabblesolverservice.service.lexicon.BoardMove;
+import com.vw.blue.scrabblesolverservice.service.lexicon.Gaddag;
+import com.vw.blue.scrabblesolverservice.service.lexicon.Lexicon;
+import com.vw.blue.scrabblesolverservice.service.lexicon.LexiconSnapshot;
+import com.vw.blue.scrabblesolverservice.service.lexicon.LexiconType;
+import com.vw.blue.scrabblesolverservice.service.lexicon.LineMove;
+import com.vw.blue.scrabblesolverservice.service.lexicon.OverlayLexicon;
+import com.vw.blue.scrabblesolverservice.service.lexicon.PackedLexicon;
+import com.vw.blue.scrabblesolverservice.service.lexicon.ScoredWord;
+import com.vw.blue.scrabblesolverservice.service.lexicon.TopWordsCollector;
+import com.vw.blue.scrabblesolverservice.service.lexicon.WordCollector;
+import com.vw.blue.scrabblesolverservice.service.lexicon.WordFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -24,80 +50,162 @@ import java.util.stream.Stream;
 @Transactional
 public class WordService {
 
+    /**
+     * The cache of the best words found for a rack, keyed by its sorted letters so all its anagrams share them.
+     */
+    public static final String WORDS_BY_RACK_CACHE = "wordsByRack";
+
+    // the number of words added or removed since the lexicon was built which triggers a compaction
+    static final int COMPACTION_THRESHOLD = 1_000;
+
     private final Logger log = LoggerFactory.getLogger(WordService.class);
 
     private final WordRepository wordRepository;
 
-    private TrieNode root;
+    // the lexicons are immutable, replaced by one writer at a time and searched by any number of threads
 
-    private Stream<String> wordStream;
+    private volatile OverlayLexicon lexicon;
 
-    private Comparator<String> wordComparator;
+    // searched instead of the lexicon for the racks up to signatureMaxRackLength tiles, null when not used
+    private volatile OverlayLexicon signatureLexicon;
 
-    private int [] scrabbleScore;
+    // whether the changes of the lexicons are being folded into new bases
+    private final AtomicBoolean compacting = new AtomicBoolean();
 
-    public WordService(WordRepository wordRepository) {
-        this.wordRepository = wordRepository;
-        root = new TrieNode();
+    private final int signatureMaxRackLength;
 
-        wordComparator = new Comparator<String>() {
-            @Override
-            public int compare(String w1, String w2) {
+    // generates the moves on the board, rebuilt in the background once the words changed and used until then,
+    // null until first built
+    private volatile Gaddag gaddag;
 
-                return getScrabbleScore(w2) - getScrabbleScore(w1);
-            }
-        };
-
-        scrabbleScore = new int[TrieNode.ALPHABET_SIZE];
-    }
-
-    @PostConstruct
-    private void init(){
-
-        /**
-         Points | Letters
-         -------+-----------------------------
-         1   | A, E, I, L, N, O, R, S, T, U
-         2   | D, G
-         3   | B, C, M, P
-         4   | F, H, V, W, Y
-         5   | K
-         8   | J, X
-         10   | Q, Z
-         */
-        Map<Integer, List<Character>> map = Stream.of(
-            new AbstractMap.SimpleImmutableEntry<>(1, Arrays.asList('a', 'e', 'i', 'l', 'n', 'o', 'r', 's', 't', 'u')),
-            new AbstractMap.SimpleImmutableEntry<>(2, Arrays.asList('d', 'g')),
-            new AbstractMap.SimpleImmutableEntry<>(3, Arrays.asList('b', 'c', 'm', 'p')),
-            new AbstractMap.SimpleImmutableEntry<>(4, Arrays.asList('f', 'h', 'v', 'w', 'y')),
-            new AbstractMap.SimpleImmutableEntry<>(5, Arrays.asList('k')),
-            new AbstractMap.SimpleImmutableEntry<>(8, Arrays.asList('j', 'x')),
-            new AbstractMap.SimpleImmutableEntry<>(10, Arrays.asList('q', 'z')))
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-        for(List<Character> l : map.values()){
-            Integer key = 0;
-            for(Integer i : map.keySet()){
-                if(map.get(i).equals(l)){
-                    key = i;
-                    break;
-                }
-            }
-            for(Character c : l){
-                scrabbleScore[c - 'a'] = key;
-            }
+    // the generation of the words the GADDAG was built from
+    private volatile long gaddagGeneration = -1;
+
+    // held while the GADDAG is built, never with the monitor of the service, so the lexicon changes do not wait
+    private final Object gaddagLock = new Object();
+
+    // the rebuild of the GADDAG running in the background, or the last one
+    private final AtomicReference<CompletableFuture<Void>> gaddagBuild =
+        new AtomicReference<>(CompletableFuture.completedFuture(null));
+
+    // whether the lexicon holds the whole dictionary, and searches find all the words
+    private volatile boolean lexiconLoaded;
+
+    private final LexiconType lexiconType;
+
+    // the snapshot the lexicon is mapped from when it was built from the same dictionary, null when not used
+    private final Path snapshotFile;
+
+    private final Cache wordsByRack;
+
+    // the largest limit of the searches cached, so an entry holds at most this many words
+    private final int maxCachedLimit;
+
+    // changed with the words of the lexicon, part of the cache keys so a search of the previous words finishing
+    // after the cache is emptied cannot be found
+    private volatile long generation;
+
+    public WordService(WordRepository wordRepository, ApplicationProperties applicationProperties,
+                       CacheManager cacheManager) {
+        this.wordRepository = wordRepository;
+        this.wordsByRack = Objects.requireNonNull(cacheManager.getCache(WORDS_BY_RACK_CACHE));
+        this.maxCachedLimit = applicationProperties.getSearch().getCache().getMaxLimit();
+        LexiconType type = applicationProperties.getLexicon().getType();
+        lexiconType = type;
+        lexicon = OverlayLexicon.empty(type);
+        String snapshot = applicationProperties.getLexicon().getSnapshotFile();
+        snapshotFile = snapshot == null || snapshot.isEmpty() || !LexiconSnapshot.supports(type) ? null : Paths.get(snapshot);
+        signatureMaxRackLength = applicationProperties.getLexicon().getSignatureMaxRackLength();
+        if (type != LexiconType.SIGNATURE && signatureMaxRackLength > 0) {
+            signatureLexicon = OverlayLexicon.empty(LexiconType.SIGNATURE);
         }
     }
 
     @Async
     @EventListener
+    @Transactional(readOnly = true)
     public void handleDatapopulationEvent(WordDataPopulationEvent event) {
         log.debug("Handling event {}", event.toString());
+        if (lexiconLoaded) {
+            log.debug("Lexicon already loaded: {} words", lexicon.size());
+            return;
+        }
 
-        wordRepository
-            .findAll()
-            .stream()
-            .forEach( w -> insertTextToTrie(w.getText()));
+        List<String> words;
+        try (Stream<String> texts = wordRepository.streamAllTexts()) {
+            words = texts
+                .map(this::normalize)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        }
+        CompletableFuture<Lexicon> signatureBase = buildSignatureBase(words);
+        useBases(lexiconType.of(words), signatureBase.join());
+        lexiconLoaded = true;
+        rebuildGaddag();
+        log.info("Lexicon populated: {} words", lexicon.size());
+    }
+
+    /**
+     * Load the words of the dictionary into the lexicon, without waiting for them to be saved in the DB.
+     *
+     * @param lines the lines of the dictionary, one word per line.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void loadLexicon(Stream<String> lines) {
+        long start = System.currentTimeMillis();
+        List<String> words = lines
+            .map(String::trim)
+            .filter(line -> !line.isEmpty())
+            .map(this::normalize)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        long checksum = snapshotFile == null ? 0 : LexiconSnapshot.checksum(words);
+        Optional<PackedLexicon> snapshot = snapshotFile == null ? Optional.empty() : mapSnapshot(checksum);
+        CompletableFuture<Lexicon> signatureBase = buildSignatureBase(words);
+        Lexicon base = snapshot.isPresent() ? snapshot.get() : lexiconType.of(words);
+        useBases(base, signatureBase.join());
+        if (snapshotFile != null && !snapshot.isPresent()) {
+            writeSnapshot((PackedLexicon) base, checksum);
+        }
+        lexiconLoaded = true;
+        rebuildGaddag();
+        log.info("Lexicon loaded in {} ms{}: {} words", System.currentTimeMillis() - start,
+            snapshot.isPresent() ? " from snapshot " + snapshotFile : "", lexicon.size());
+    }
+
+    /**
+     * @return whether the lexicon holds the whole dictionary, either loaded from the dictionary file or from the DB.
+     */
+    public boolean isLexiconLoaded() {
+        return lexiconLoaded;
+    }
+
+    /**
+     * @return whether the GADDAG generating the moves was built from the current words of the lexicon.
+     */
+    public boolean isGaddagCurrent() {
+        return gaddagGeneration == generation;
+    }
+
+    /**
+     * Rebuild the GADDAG in the background if the words changed since it was built, so all the changes made in
+     * between are folded into a single build. Nothing is built before the GADDAG is first used or the lexicon loaded.
+     * <p>
+     * This is scheduled to get fired every 5 seconds.
+     *
+     * @return the rebuild, done once the GADDAG is built from the words of the lexicon, or the rebuild running already.
+     */
+    @Scheduled(fixedDelay = 5_000)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CompletableFuture<Void> refreshGaddag() {
+        return gaddag == null ? gaddagBuild.get() : rebuildGaddag();
+    }
+
+    /**
+     * @return the number of words in the lexicon.
+     */
+    public int getLexiconSize() {
+        return lexicon.size();
     }
 
     /**
@@ -108,7 +216,22 @@ public class WordService {
      */
     public Word save(Word word) {
         log.debug("Request to save Word : {}", word);
-        return wordRepository.save(word);
+        String previous = word.getId() == null ? null
+            : wordRepository.findById(word.getId()).map(Word::getText).orElse(null);
+        Word result = wordRepository.save(word);
+        String text = result.getText();
+        boolean removed = previous != null && !previous.equalsIgnoreCase(text)
+            && !wordRepository.existsByTextIgnoreCase(previous);
+        afterCommit(() -> {
+            if (removed) {
+                removeFromLexicon(previous);
+            }
+            String added = toLexiconWord(text);
+            if (added != null) {
+                addToLexicon(Collections.singletonList(added));
+            }
+        });
+        return result;
     }
 
     /**
@@ -142,7 +265,11 @@ public class WordService {
      */
     public void delete(Long id) {
         log.debug("Request to delete Word : {}", id);
+        Optional<String> text = wordRepository.findById(id).map(Word::getText);
         wordRepository.deleteById(id);
+        // the lexicon keeps the word while a case variant of it is left
+        text.filter(deleted -> !wordRepository.existsByTextIgnoreCase(deleted))
+            .ifPresent(deleted -> afterCommit(() -> removeFromLexicon(deleted)));
     }
 
     /**
@@ -153,163 +280,434 @@ public class WordService {
     }
 
     /**
-     * Inserts text into trie. If the text is prefix of trie node, just marks leaf node
+     * Inserts text into the lexicon searched by {@link #findWordsOnTrie(String)}.
      *
      * @param text the text to be inserted
      */
     public void insertTextToTrie(String text) {
-//        log.debug("insert to Trie: {}", key);
-        if(text == null || text.equals("") || !text.matches("^[a-zA-Z]*$")){
-            log.error("Input word, {}, can't be inserted to trie because it is invalid", text);
-            return;
-        }
-
-        text = text.toLowerCase();
-        int length = text.length();
-        TrieNode pCrawl = root;
-
-        for (int level=0; level<length; level++){
-            int index = text.charAt(level) - 'a';
-            if (pCrawl.children[index] == null) {
-                pCrawl.children[index] = new TrieNode();
-            }
-            pCrawl = pCrawl.children[index];
+        String word = normalize(text);
+        if (word != null) {
+            addToLexicon(Collections.singletonList(word));
         }
-        // make last node as leaf node
-        pCrawl.leaf = true;
     }
 
     /**
      * Find all words in the DB. And those words only contains characters in the given text. If a character appears
      * multiple times in the text, returned words can have the character multiple times up to the number if such words
-     * exists in the DB.
+     * exists in the DB. Every {@link Lexicon#BLANK} of the text stands for one more character of any kind, which
+     * scores no point and is upper case in the returned words.
      *
      * @param text the text.
-     * @return a list of words, which are formed with characters in the input text, from DB.
+     * @return a list of words, which are formed with characters in the input text, from DB, best scores first.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<String> findWordsOnTrie(String text){
-        log.debug("Request to find Words : {}", text);
+        return findWordsOnTrie(text, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Find the best scoring words in the DB which only contain characters in the given text, see
+     * {@link #findWordsOnTrie(String)}. Only the best words are kept while searching, the others are never sorted.
+     * Short texts without blanks are looked up in the signature index when it is enabled, the others are searched in
+     * the lexicon. Up to a configured limit, the words are cached for the text and all its anagrams until the words of
+     * the lexicon change.
+     *
+     * @param text the text.
+     * @param limit the maximum number of words to return, positive.
+     * @return a list of at most limit words, best scores first, then in alphabetical order.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<String> findWordsOnTrie(String text, int limit){
+        log.debug("Request to find Words : {}, limit {}", text, limit);
         if(text == null || text.length() == 0)
             return Collections.emptyList();
 
+        return topWords(text.toLowerCase(), limit).stream().map(ScoredWord::getWord).collect(Collectors.toList());
+    }
+
+    /**
+     * Find a page of the best scoring words in the DB which only contain characters in the given text and are
+     * accepted by a filter, see {@link #findWordsOnTrie(String, int)}. The filter is applied while the lexicon is
+     * searched, and only the words of the page are kept. Only the first page without filter is cached.
+     *
+     * @param text the text.
+     * @param filter the conditions of the words.
+     * @param after the last word of the previous page, null for the first page.
+     * @param limit the maximum number of words of the page, positive.
+     * @return a list of at most limit words ranked after the last word of the previous page, best scores first,
+     * then in alphabetical order.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ScoredWord> findScoredWordsOnTrie(String text, WordFilter filter, ScoredWord after, int limit) {
+        log.debug("Request to find Words : {}, {}, after {}, limit {}", text, filter, after, limit);
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        text = text.toLowerCase();
+        if (filter.isNone() && after == null) {
+            return topWords(text, limit);
+        }
+        TopWordsCollector collector = new TopWordsCollector(limit, after);
+        engine(text).findWords(text.toCharArray(), filter, collector);
+        return collector.getWords();
+    }
+
+    /**
+     * Pass every word in the DB which only contains characters in the given text to a collector as soon as it is
+     * found, see {@link #findWordsOnTrie(String)}. The words are neither sorted nor kept, so the memory used does not
+     * grow with the number of words found.
+     *
+     * @param text the text.
+     * @param collector the collector of the words, in no particular order.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void findWordsOnTrie(String text, WordCollector collector) {
+        log.debug("Request to stream Words : {}", text);
+        if (text == null || text.isEmpty()) {
+            return;
+        }
         text = text.toLowerCase();
-        char [] chars = text.toCharArray();
-        wordStream = Stream.empty();
-        findAllWords(chars, root, chars.length);
+        engine(text).findWords(text.toCharArray(), collector);
+    }
 
-        return wordStream.sorted(wordComparator).collect(Collectors.toList());
+    /**
+     * Find all the placements of words of the DB on a board line which can be made with the tiles of the given text,
+     * see {@link Gaddag#generateMoves}.
+     *
+     * @param line the board line.
+     * @param text the tiles, letters and {@link Lexicon#BLANK}s.
+     * @return the placements, by first square then in alphabetical order.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<LineMove> findMovesOnLine(BoardLine line, String text) {
+        log.debug("Request to find moves on {} with {}", line, text);
+        List<LineMove> moves = new ArrayList<>();
+        gaddag().generateMoves(line, text.toLowerCase().toCharArray(),
+            (squares, start, length) -> moves.add(new LineMove(start, new String(squares, start, length))));
+        moves.sort(LineMove.BY_START);
+        return moves;
+    }
+
+    /**
+     * Find the best scoring moves of the words of the DB on a board which can be made with the tiles of the given
+     * text, see {@link Board#findBestMoves}.
+     *
+     * @param board the board.
+     * @param text the tiles, letters and {@link Lexicon#BLANK}s.
+     * @param limit the maximum number of moves to return, positive.
+     * @return a list of at most limit moves, best scores first.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<BoardMove> findBestMoves(Board board, String text, int limit) {
+        log.debug("Request to find the best moves with {}, limit {}", text, limit);
+        return board.findBestMoves(gaddag(), text.toLowerCase().toCharArray(), limit);
+    }
+
+    /**
+     * @param rack a rack.
+     * @return the lower-case letters and blanks of the rack, sorted, the same for all its anagrams.
+     */
+    static String anagramKey(String rack) {
+        char[] letters = rack.toLowerCase(Locale.ROOT).toCharArray();
+        Arrays.sort(letters);
+        return new String(letters);
     }
 
     /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ Private methods ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
 
     /**
-     * Implement the finding words met the condition
+     * Find the best scoring words of a text in the cache, or search them and cache them for all its anagrams, unless
+     * the limit is too high to keep them
      *
-     * @param arr array of characters
-     * @param root Trie root
-     * @param n a length of character array
-     */
-    private void findAllWords(char arr[], TrieNode root, int n) {
-        log.debug("find all words : {}", Arrays.toString(arr) + ", " + n);
-        // create a 'has' array that will store all present character in Arr[]
-        int[] hash = new int[TrieNode.ALPHABET_SIZE];
-        // initialize character appearance array
-        for (int i = 0 ; i < hash.length; i++)
-            hash[i] = 0;
-
-        // Record the numbers of character appearances in the input array
-        for (int i = 0 ; i < n; i++)
-            hash[arr[i] - 'a']++;
-
-        // temporary node
-        TrieNode pChild = root ;
-
-        // string to hold output words
-        String str = "";
-
-        // Traverse all matrix elements. There are only 26 character possible in character array
-        for (int i = 0 ; i < TrieNode.ALPHABET_SIZE; i++)  {
-            // we start searching for word in dictionary if we found a character which is child of Trie root
-            if (hash[i] > 0 && pChild.children[i] != null ) {
-                str = str+(char)(i + 'a');
-                hash[i]--;
-                searchWord(pChild.children[i], hash, str);
-                hash[i]++;
-                str = "";
+     * @param text the lower-case text
+     * @param limit the maximum number of words to return, positive
+     * @return the unmodifiable list of at most limit words, best scores first, then in alphabetical order
+     */
+    @SuppressWarnings("unchecked")
+    private List<ScoredWord> topWords(String text, int limit) {
+        boolean cached = limit <= maxCachedLimit;
+        String key = generation + ":" + limit + ":" + anagramKey(text);
+        List<ScoredWord> words = cached ? wordsByRack.get(key, List.class) : null;
+        if (words == null) {
+            TopWordsCollector collector = new TopWordsCollector(limit);
+            engine(text).findWords(text.toCharArray(), collector);
+            words = Collections.unmodifiableList(collector.getWords());
+            if (cached) {
+                wordsByRack.put(key, words);
             }
         }
+        return words;
+    }
+
+    /**
+     * Short texts without blanks are looked up in the signature index when it is enabled, the others are searched in
+     * the lexicon
+     *
+     * @param text the lower-case text
+     * @return the lexicon to search the text in
+     */
+    private Lexicon engine(String text) {
+        return signatureLexicon != null && text.length() <= signatureMaxRackLength
+            && text.indexOf(Lexicon.BLANK) < 0 ? signatureLexicon : lexicon;
     }
 
     /**
-     * Find a word
+     * Run a change of the lexicons once the current transaction is committed, or right away without a transaction
      *
-     * @param root Trie node
-     * @param hash
-     * @param str word to be found
-     */
-    private void searchWord(TrieNode root, int hash[], String str) {
-        log.debug("search word : {}", str);
-        // if we found word in trie / dictionary
-        if (root.leaf == true) {
-            wordStream = Stream.concat(Stream.of(str), wordStream);
+     * @param change the change
+     */
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
         }
+    }
 
-        // traverse all child's of current root
-        for (int i =0; i < TrieNode.ALPHABET_SIZE; i++) {
-            if (hash[i] > 0 && root.children[i] != null ) {
-                // add current character
-                char c = (char) (i + 'a');
-                hash[i]--;
-                // Recursively search reaming character of word in trie
-                searchWord(root.children[i], hash, str + c);
-                hash[i]++;
-            }
+    /**
+     * Add words to the lexicon and the signature index, and publish them to the searches that start afterwards
+     *
+     * @param words the valid lower-case words, which may be in the lexicon already
+     */
+    private synchronized void addToLexicon(Collection<String> words) {
+        int size = lexicon.size();
+        lexicon = lexicon.addAll(words);
+        if (signatureLexicon != null) {
+            signatureLexicon = signatureLexicon.addAll(words);
         }
+        if (lexicon.size() != size) {
+            wordsChanged();
+        }
+        compactIfNeeded();
     }
 
     /**
-     * Calculate scrabble score of a given string
+     * Remove a word from the lexicon and the signature index, and publish it to the searches that start afterwards
      *
-     * @param str an input string
-     * @return scrabble score
+     * @param text the text of the word, ignored if it is not a valid word
      */
-    private int getScrabbleScore(String str){
+    private synchronized void removeFromLexicon(String text) {
+        String word = toLexiconWord(text);
+        if (word == null) {
+            return;
+        }
+        List<String> words = Collections.singletonList(word);
+        int size = lexicon.size();
+        lexicon = lexicon.removeAll(words);
+        if (signatureLexicon != null) {
+            signatureLexicon = signatureLexicon.removeAll(words);
+        }
+        if (lexicon.size() != size) {
+            wordsChanged();
+        }
+        compactIfNeeded();
+    }
 
-        if(str == null || str.equals("") || !str.matches("^[a-zA-Z]*$"))
-            return 0;
+    /**
+     * Use new bases for the lexicon and the signature index, keeping the words added and removed since the current
+     * ones were built
+     *
+     * @param base the base of the lexicon
+     * @param signatureBase the base of the signature index, null when it is not used
+     */
+    private synchronized void useBases(Lexicon base, Lexicon signatureBase) {
+        lexicon = rebase(lexicon, lexiconType, base);
+        if (signatureLexicon != null) {
+            signatureLexicon = rebase(signatureLexicon, LexiconType.SIGNATURE, signatureBase);
+        }
+        wordsChanged();
+    }
+
+    /**
+     * Forget the words found before the words of the lexicon changed, called once the new lexicons are published. The
+     * GADDAG is rebuilt on the next {@link #refreshGaddag()}.
+     */
+    private void wordsChanged() {
+        generation++;
+        wordsByRack.clear();
+    }
+
+    /**
+     * Build the base of the signature index in the background
+     *
+     * @param words the words of the base
+     * @return the base, or null when the signature index is not used
+     */
+    private CompletableFuture<Lexicon> buildSignatureBase(List<String> words) {
+        return signatureLexicon == null ? CompletableFuture.completedFuture(null)
+            : CompletableFuture.supplyAsync(() -> LexiconType.SIGNATURE.of(words));
+    }
+
+    private static OverlayLexicon rebase(OverlayLexicon current, LexiconType type, Lexicon base) {
+        OverlayLexicon unchanged = OverlayLexicon.of(type, current.base());
+        return OverlayLexicon.of(type, base).withChanges(unchanged, current);
+    }
 
-        str = str.toLowerCase();
-        char [] chars = str.toCharArray();
-        int score = 0;
-        for(int i=0; i<chars.length; i++){
-            int idx = chars[i] - 'a';
-            score += scrabbleScore[i];
+    /**
+     * Fold the changes of the lexicons into new bases in the background, once there are enough of them to slow
+     * searches down
+     */
+    private void compactIfNeeded() {
+        if (lexicon.changeCount() >= COMPACTION_THRESHOLD && compacting.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(this::compactLexicons).whenComplete((done, e) -> {
+                compacting.set(false);
+                if (e != null) {
+                    log.error("Lexicon compaction failed", e);
+                }
+            });
         }
-        return score;
     }
-}
 
-class TrieNode{
+    /**
+     * Build new bases holding all the words, then publish them with the changes made meanwhile
+     */
+    private void compactLexicons() {
+        long start = System.currentTimeMillis();
+        OverlayLexicon from = lexicon;
+        OverlayLexicon compacted = from.compact();
+        OverlayLexicon signatureFrom = signatureLexicon;
+        OverlayLexicon signatureCompacted = signatureFrom == null ? null : signatureFrom.compact();
+        synchronized (this) {
+            if (lexicon.base() != from.base()) {
+                // the lexicon was loaded again meanwhile
+                return;
+            }
+            lexicon = compacted.withChanges(from, lexicon);
+            if (signatureCompacted != null) {
+                signatureLexicon = signatureCompacted.withChanges(signatureFrom, signatureLexicon);
+            }
+        }
+        log.info("Lexicon compacted in {} ms: {}", System.currentTimeMillis() - start, lexicon);
+    }
+
+    /**
+     * Map the snapshot of the lexicon if it was built from the same words
+     *
+     * @param checksum the checksum of the words
+     * @return the mapped lexicon, or empty if the snapshot is missing, stale or unreadable
+     */
+    private Optional<PackedLexicon> mapSnapshot(long checksum) {
+        try {
+            return LexiconSnapshot.map(snapshotFile, lexiconType, checksum);
+        } catch (IOException e) {
+            log.warn("Lexicon snapshot {} could not be mapped: {}", snapshotFile, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Write the snapshot of the lexicon
+     *
+     * @param base the lexicon built from the words of the dictionary
+     * @param checksum the checksum of the words
+     */
+    private void writeSnapshot(PackedLexicon base, long checksum) {
+        try {
+            LexiconSnapshot.write(base, checksum, snapshotFile);
+            log.info("Lexicon snapshot written to {}", snapshotFile);
+        } catch (IOException e) {
+            log.warn("Lexicon snapshot {} could not be written: {}", snapshotFile, e.toString());
+        }
+    }
+
+    /**
+     * Get the GADDAG of the lexicon, building it on first use, or the previous one until it is rebuilt after the words
+     * changed, see {@link #refreshGaddag()}
+     *
+     * @return the GADDAG
+     */
+    private Gaddag gaddag() {
+        Gaddag current = gaddag;
+        if (current == null) {
+            synchronized (gaddagLock) {
+                if (gaddag == null) {
+                    buildGaddag();
+                }
+                current = gaddag;
+            }
+        }
+        return current;
+    }
 
-    // Alphabet size
-    static final int ALPHABET_SIZE = 26;
+    /**
+     * Rebuild the GADDAG in the background unless it is current or already being rebuilt, then again as long as the
+     * words changed meanwhile
+     *
+     * @return the rebuild
+     */
+    private CompletableFuture<Void> rebuildGaddag() {
+        CompletableFuture<Void> running = gaddagBuild.get();
+        if (!running.isDone() || isGaddagCurrent()) {
+            return running;
+        }
+        CompletableFuture<Void> rebuild = new CompletableFuture<>();
+        if (!gaddagBuild.compareAndSet(running, rebuild)) {
+            return gaddagBuild.get();
+        }
+        CompletableFuture.runAsync(() -> {
+            synchronized (gaddagLock) {
+                while (!isGaddagCurrent()) {
+                    buildGaddag();
+                }
+            }
+        }).whenComplete((done, e) -> {
+            if (e != null) {
+                log.error("GADDAG build failed", e);
+                rebuild.completeExceptionally(e);
+            } else {
+                rebuild.complete(null);
+            }
+        });
+        return rebuild;
+    }
 
-    TrieNode[] children = new TrieNode[ALPHABET_SIZE];
+    /**
+     * Build the GADDAG of the current words of the lexicon and publish it, holding the GADDAG lock
+     */
+    private void buildGaddag() {
+        long start = System.currentTimeMillis();
+        // the generation is read first, so the lexicon holds at least its words
+        long builtGeneration = generation;
+        Gaddag built = Gaddag.of(lexicon);
+        gaddag = built;
+        gaddagGeneration = builtGeneration;
+        log.info("GADDAG built in {} ms: {}", System.currentTimeMillis() - start, built);
+    }
 
-    // isLeaf is true if the node represents end of a word
-    boolean leaf;
+    /**
+     * Check that a text can be inserted into the lexicon
+     *
+     * @param text an input text
+     * @return the lower-case text, or null if it is invalid
+     */
+    private String normalize(String text) {
+        String word = toLexiconWord(text);
+        if (word == null) {
+            log.error("Input word, {}, can't be inserted to trie because it is invalid", text);
+        }
+        return word;
+    }
 
-    public TrieNode() {
-        leaf = false;
-        for (int i =0 ; i< ALPHABET_SIZE ; i++)
-            children[i] = null;
+    /**
+     * @param text a text
+     * @return the lower-case text, or null if it can't be inserted into the lexicon
+     */
+    private static String toLexiconWord(String text) {
+        return text == null || text.isEmpty() || !isLetters(text) ? null : text.toLowerCase();
     }
 
-    @Override
-    public String toString() {
-        return "TrieNode{" +
-            "children=" + Arrays.toString(children) +
-            ", leaf=" + leaf +
-            '}';
+    private static boolean isLetters(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z')) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -0,0 +1,71 @@
+package com.vw.blue.scrabblesolverservice.service.dto;
+
+import com.vw.blue.scrabblesolverservice.service.lexicon.LexiconType;
+
+/**
+ * A DTO representing a named lexicon, and whether it is loaded.
+ */
+public class LexiconDTO {
+
+    private String name;
+
+    private LexiconType type;
+
+    private boolean loaded;
+
+    // the number of words, 0 while the lexicon is not loaded
+    private int size;
+
+    public LexiconDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public LexiconDTO(String name, LexiconType type, boolean loaded, int size) {
+        this.name = name;
+        this.type = type;
+        this.loaded = loaded;
+        this.size = size;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LexiconType getType() {
+        return type;
+    }
+
+    public void setType(LexiconType type) {
+        this.type = type;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public void setLoaded(boolean loaded) {
+        this.loaded = loaded;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    @Override
+    public String toString() {
+        return "LexiconDTO{" +
+            "name='" + name + '\'' +
+            ", type=" + type +
+            ", loaded=" + loaded +
+            ", size=" + size +
+            '}';
+    }
+}
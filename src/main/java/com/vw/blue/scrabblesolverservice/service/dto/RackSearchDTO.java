@@ -0,0 +1,72 @@
+package com.vw.blue.scrabblesolverservice.service.dto;
+
+import java.util.List;
+
+/**
+ * A DTO representing the words found for one rack of a batch, and how long finding them took.
+ */
+public class RackSearchDTO {
+
+    private String rack;
+
+    private List<String> words;
+
+    // the time taken by the search of the rack, or of its anagram which was searched instead
+    private long durationMicros;
+
+    // whether the words were found for an anagram earlier in the batch
+    private boolean shared;
+
+    public RackSearchDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public RackSearchDTO(String rack, List<String> words, long durationMicros, boolean shared) {
+        this.rack = rack;
+        this.words = words;
+        this.durationMicros = durationMicros;
+        this.shared = shared;
+    }
+
+    public String getRack() {
+        return rack;
+    }
+
+    public void setRack(String rack) {
+        this.rack = rack;
+    }
+
+    public List<String> getWords() {
+        return words;
+    }
+
+    public void setWords(List<String> words) {
+        this.words = words;
+    }
+
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+
+    public void setDurationMicros(long durationMicros) {
+        this.durationMicros = durationMicros;
+    }
+
+    public boolean isShared() {
+        return shared;
+    }
+
+    public void setShared(boolean shared) {
+        this.shared = shared;
+    }
+
+    @Override
+    public String toString() {
+        return "RackSearchDTO{" +
+            "rack='" + rack + '\'' +
+            ", words=" + (words == null ? 0 : words.size()) +
+            ", durationMicros=" + durationMicros +
+            ", shared=" + shared +
+            '}';
+    }
+}
@@ -0,0 +1,320 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.util.*;
+
+/**
+ * The tiles of a Scrabble set, each mapped to a dense index from {@code 0} to {@link #size()} exclusive, with its
+ * points.
+ * <p>
+ * A tile is one or more lower-case characters: the Spanish set has {@code ch}, {@code ll} and {@code rr} tiles for
+ * instance. Texts are split into tiles greedily, the longest tile matching first, so {@code llama} is made of the
+ * tiles {@code ll}, {@code a}, {@code m} and {@code a}. The index of a tile is its position in the set, which is
+ * also the order the words are visited in.
+ */
+public final class Alphabet {
+
+    /**
+     * The largest number of tiles of an alphabet, so a set of tiles fits in a {@code long} mask.
+     */
+    public static final int MAX_SIZE = Long.SIZE;
+
+    /**
+     * The English set, {@code a} to {@code z}, see {@link LetterScores}.
+     */
+    public static final Alphabet ENGLISH = english();
+
+    /**
+     * The Spanish set, with the {@code ch}, {@code ll}, {@code ñ} and {@code rr} tiles and without {@code k} nor
+     * {@code w}.
+     */
+    public static final Alphabet SPANISH = parse("a1 b3 c3 ch5 d2 e1 f4 g2 h4 i1 j8 l1 ll8 m3 n1 ñ8 o1 p3 q5 r1 rr8 " +
+        "s1 t1 u1 v4 x8 y4 z10");
+
+    /**
+     * The German set, with the {@code ä}, {@code ö} and {@code ü} tiles.
+     */
+    public static final Alphabet GERMAN = parse("a1 ä6 b3 c4 d1 e1 f4 g2 h2 i1 j6 k4 l2 m3 n1 o2 ö8 p4 q10 r1 s1 " +
+        "t1 u1 ü6 v6 w3 x8 y10 z3");
+
+    /**
+     * The Polish set, with its nine diacritic tiles and without {@code q}, {@code v} nor {@code x}.
+     */
+    public static final Alphabet POLISH = parse("a1 ą5 b3 c2 ć6 d2 e1 ę5 f5 g3 h3 i1 j3 k2 l2 ł3 m2 n1 ń7 o1 ó5 " +
+        "p2 r1 s1 ś5 t2 u3 w1 y2 z1 ź9 ż5");
+
+    private static final Map<String, Alphabet> NAMED = named();
+
+    private final String[] tiles;
+
+    private final String[] upperCaseTiles;
+
+    private final int[] scores;
+
+    // one more than the index of every single character tile, by character, 0 for the other characters
+    private final int[] charIndexes;
+
+    // the indexes of the tiles of several characters, longest first
+    private final int[] multiCharTiles;
+
+    private final int maxTileLength;
+
+    private Alphabet(String[] tiles, int[] scores) {
+        this.tiles = tiles;
+        this.scores = scores;
+        this.upperCaseTiles = new String[tiles.length];
+        List<Integer> multiCharTiles = new ArrayList<>();
+        int maxChar = 0;
+        int maxTileLength = 0;
+        for (int i = 0; i < tiles.length; i++) {
+            char[] upperCase = tiles[i].toCharArray();
+            for (int j = 0; j < upperCase.length; j++) {
+                upperCase[j] = Character.toUpperCase(upperCase[j]);
+            }
+            upperCaseTiles[i] = new String(upperCase);
+            if (tiles[i].length() == 1) {
+                maxChar = Math.max(maxChar, tiles[i].charAt(0));
+            } else {
+                multiCharTiles.add(i);
+            }
+            maxTileLength = Math.max(maxTileLength, tiles[i].length());
+        }
+        this.charIndexes = new int[maxChar + 1];
+        for (int i = 0; i < tiles.length; i++) {
+            if (tiles[i].length() == 1) {
+                charIndexes[tiles[i].charAt(0)] = i + 1;
+            }
+        }
+        multiCharTiles.sort(Comparator.comparingInt((Integer index) -> tiles[index].length()).reversed());
+        this.multiCharTiles = multiCharTiles.stream().mapToInt(Integer::intValue).toArray();
+        this.maxTileLength = maxTileLength;
+    }
+
+    /**
+     * Define an alphabet.
+     *
+     * @param tileScores the points of the tiles, by tile, in the order of their indexes.
+     * @return the alphabet.
+     * @throws IllegalArgumentException if there are more than {@link #MAX_SIZE} tiles, or a tile is not lower-case
+     * letters, or its points are negative.
+     */
+    public static Alphabet of(LinkedHashMap<String, Integer> tileScores) {
+        if (tileScores.isEmpty() || tileScores.size() > MAX_SIZE) {
+            throw new IllegalArgumentException("An alphabet has 1 to " + MAX_SIZE + " tiles: " + tileScores.keySet());
+        }
+        String[] tiles = new String[tileScores.size()];
+        int[] scores = new int[tileScores.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> tileScore : tileScores.entrySet()) {
+            String tile = tileScore.getKey();
+            if (tile.isEmpty() || !tile.chars().allMatch(c -> Character.isLetter(c) && Character.isLowerCase(c))) {
+                throw new IllegalArgumentException("A tile is made of lower-case letters: " + tile);
+            }
+            if (tileScore.getValue() < 0) {
+                throw new IllegalArgumentException("The points of a tile are not negative: " + tileScore);
+            }
+            tiles[i] = tile;
+            scores[i++] = tileScore.getValue();
+        }
+        return new Alphabet(tiles, scores);
+    }
+
+    /**
+     * @param name {@code english}, {@code spanish}, {@code german} or {@code polish}, in any case.
+     * @return the alphabet of that name.
+     * @throws IllegalArgumentException if there is no alphabet of that name.
+     */
+    public static Alphabet named(String name) {
+        Alphabet alphabet = NAMED.get(name.toLowerCase(Locale.ROOT));
+        if (alphabet == null) {
+            throw new IllegalArgumentException("Unknown alphabet " + name + ", expected one of " + NAMED.keySet());
+        }
+        return alphabet;
+    }
+
+    /**
+     * @return the number of tiles.
+     */
+    public int size() {
+        return tiles.length;
+    }
+
+    /**
+     * @param index the index of a tile.
+     * @return the lower-case characters of the tile.
+     */
+    public String tile(int index) {
+        return tiles[index];
+    }
+
+    /**
+     * @param index the index of a tile.
+     * @return the points of the tile.
+     */
+    public int score(int index) {
+        return scores[index];
+    }
+
+    /**
+     * @param indexes the indexes of the tiles of a word.
+     * @return the sum of the points of the tiles.
+     */
+    public int score(int[] indexes) {
+        int score = 0;
+        for (int index : indexes) {
+            score += scores[index];
+        }
+        return score;
+    }
+
+    /**
+     * Find the tile at a position of a text.
+     *
+     * @param text the text.
+     * @param offset the position of the first character of the tile.
+     * @return the index of the longest tile matching the lower-case characters from the position, or {@code -1} if
+     * none does.
+     */
+    public int tileAt(CharSequence text, int offset) {
+        for (int index : multiCharTiles) {
+            String tile = tiles[index];
+            if (offset + tile.length() <= text.length() && matches(text, offset, tile)) {
+                return index;
+            }
+        }
+        char c = text.charAt(offset);
+        return c < charIndexes.length ? charIndexes[c] - 1 : -1;
+    }
+
+    /**
+     * Find the tile at a position of a text written in any case, see {@link #tileAt(CharSequence, int)}.
+     *
+     * @param text buffer holding the characters of the text.
+     * @param offset the position of the first character of the tile.
+     * @param length the number of characters of the text.
+     * @return the index of the longest tile matching the characters from the position, or {@code -1} if none does.
+     */
+    int tileAtIgnoreCase(char[] text, int offset, int length) {
+        for (int index : multiCharTiles) {
+            String tile = tiles[index];
+            if (offset + tile.length() <= length && matchesIgnoreCase(text, offset, tile)) {
+                return index;
+            }
+        }
+        char c = Character.toLowerCase(text[offset]);
+        return c < charIndexes.length ? charIndexes[c] - 1 : -1;
+    }
+
+    /**
+     * Split a word into tiles.
+     *
+     * @param word the lower-case word.
+     * @return the indexes of its tiles, or null if the word is not made of tiles of the alphabet.
+     */
+    public int[] encode(CharSequence word) {
+        int[] indexes = new int[word.length()];
+        int count = 0;
+        for (int offset = 0; offset < word.length(); count++) {
+            int index = tileAt(word, offset);
+            if (index < 0) {
+                return null;
+            }
+            indexes[count] = index;
+            offset += tiles[index].length();
+        }
+        return count == indexes.length ? indexes : Arrays.copyOf(indexes, count);
+    }
+
+    /**
+     * @param text a text.
+     * @return the lower-case text, or null if it is empty or not made of tiles of the alphabet.
+     */
+    public String toWord(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        char[] lowerCase = text.toCharArray();
+        for (int i = 0; i < lowerCase.length; i++) {
+            lowerCase[i] = Character.toLowerCase(lowerCase[i]);
+        }
+        String word = new String(lowerCase);
+        return encode(word) == null ? null : word;
+    }
+
+    /**
+     * Write the characters of a tile into a buffer.
+     *
+     * @param index the index of the tile.
+     * @param blank whether the tile is played as a blank, and written upper-case.
+     * @param buffer the buffer.
+     * @param offset the position of the first character of the tile in the buffer.
+     * @return the position after the last character of the tile.
+     */
+    int write(int index, boolean blank, char[] buffer, int offset) {
+        String tile = blank ? upperCaseTiles[index] : tiles[index];
+        tile.getChars(0, tile.length(), buffer, offset);
+        return offset + tile.length();
+    }
+
+    /**
+     * @return the number of characters of the longest tile.
+     */
+    int maxTileLength() {
+        return maxTileLength;
+    }
+
+    @Override
+    public String toString() {
+        return "Alphabet" + Arrays.toString(tiles);
+    }
+
+    private static boolean matches(CharSequence text, int offset, String tile) {
+        for (int i = 0; i < tile.length(); i++) {
+            if (text.charAt(offset + i) != tile.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesIgnoreCase(char[] text, int offset, String tile) {
+        for (int i = 0; i < tile.length(); i++) {
+            if (Character.toLowerCase(text[offset + i]) != tile.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Alphabet english() {
+        LinkedHashMap<String, Integer> tileScores = new LinkedHashMap<>();
+        for (char letter = 'a'; letter <= 'z'; letter++) {
+            tileScores.put(String.valueOf(letter), LetterScores.of(letter));
+        }
+        return of(tileScores);
+    }
+
+    /**
+     * @param tileScores the tiles, each followed by its points, separated by spaces.
+     * @return the alphabet.
+     */
+    private static Alphabet parse(String tileScores) {
+        LinkedHashMap<String, Integer> parsed = new LinkedHashMap<>();
+        for (String tileScore : tileScores.split(" ")) {
+            int digits = tileScore.length();
+            while (Character.isDigit(tileScore.charAt(digits - 1))) {
+                digits--;
+            }
+            parsed.put(tileScore.substring(0, digits), Integer.parseInt(tileScore.substring(digits)));
+        }
+        return of(parsed);
+    }
+
+    private static Map<String, Alphabet> named() {
+        Map<String, Alphabet> named = new LinkedHashMap<>();
+        named.put("english", ENGLISH);
+        named.put("spanish", SPANISH);
+        named.put("german", GERMAN);
+        named.put("polish", POLISH);
+        return Collections.unmodifiableMap(named);
+    }
+}
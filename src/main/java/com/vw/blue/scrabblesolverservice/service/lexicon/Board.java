@@ -0,0 +1,242 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import com.vw.blue.scrabblesolverservice.service.lexicon.BoardMove.Direction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * A standard 15x15 board with the tiles played so far, on which the best moves of a rack are generated.
+ * <p>
+ * Every line of the board, in both directions, is handed to a {@link Gaddag} as a {@link BoardLine}. Its anchors are
+ * the empty squares next to a tile, or the center square on an empty board, and the cross-check of every empty square
+ * with tiles across the line is computed once, so the generator filters the letters with a single mask. The moves are
+ * scored as they are generated, and only the best ones are kept.
+ */
+public class Board {
+
+    public static final int SIZE = 15;
+
+    /**
+     * The bonus for placing all the tiles of a full rack.
+     */
+    public static final int BINGO_BONUS = 50;
+
+    public static final int RACK_SIZE = 7;
+
+    private static final int CENTER = SIZE / 2;
+
+    // T triple word, D double word, t triple letter, d double letter
+    private static final String[] PREMIUMS = {
+        "T..d...T...d..T",
+        ".D...t...t...D.",
+        "..D...d.d...D..",
+        "d..D...d...D..d",
+        "....D.....D....",
+        ".t...t...t...t.",
+        "..d...d.d...d..",
+        "T..d...D...d..T",
+        "..d...d.d...d..",
+        ".t...t...t...t.",
+        "....D.....D....",
+        "d..D...d...D..d",
+        "..D...d.d...D..",
+        ".D...t...t...D.",
+        "T..d...T...d..T"
+    };
+
+    private final char[][] squares = new char[SIZE][];
+
+    private final boolean empty;
+
+    /**
+     * @param rows the {@link #SIZE} rows of {@link #SIZE} squares, {@link BoardLine#EMPTY} or letters, in upper case
+     * for blanks.
+     * @throws IllegalArgumentException if the board is not a square of that size, or a square is invalid.
+     */
+    public Board(List<String> rows) {
+        if (rows.size() != SIZE) {
+            throw new IllegalArgumentException("A board has " + SIZE + " rows: " + rows.size());
+        }
+        boolean empty = true;
+        for (int row = 0; row < SIZE; row++) {
+            String squares = rows.get(row);
+            if (squares.length() != SIZE) {
+                throw new IllegalArgumentException("A row has " + SIZE + " squares: " + squares);
+            }
+            // validates the squares
+            new BoardLine(squares);
+            this.squares[row] = squares.toCharArray();
+            empty &= squares.chars().allMatch(square -> square == BoardLine.EMPTY);
+        }
+        this.empty = empty;
+    }
+
+    /**
+     * @return the letter on the square, in upper case for a blank, or {@link BoardLine#EMPTY}.
+     */
+    public char square(int row, int column) {
+        return squares[row][column];
+    }
+
+    /**
+     * Find the best moves the rack can make, in both directions. A move is a word of at least two letters, and a
+     * single tile forming words in both directions is only found across.
+     *
+     * @param gaddag the GADDAG of the words.
+     * @param rack the lower-case letters and {@link Lexicon#BLANK}s of the rack, other characters are ignored.
+     * @param limit the maximum number of moves to return, positive.
+     * @return the best moves, ordered by {@link BoardMove#BEST_FIRST}.
+     */
+    public List<BoardMove> findBestMoves(Gaddag gaddag, char[] rack, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The limit must be positive: " + limit);
+        }
+        PriorityQueue<BoardMove> best = new PriorityQueue<>(Math.min(limit, 256), BoardMove.BEST_FIRST.reversed());
+        for (Direction direction : Direction.values()) {
+            for (int line = 0; line < SIZE; line++) {
+                new LineScorer(gaddag, direction, line, best, limit).generate(rack);
+            }
+        }
+        List<BoardMove> moves = new ArrayList<>(best);
+        moves.sort(BoardMove.BEST_FIRST);
+        return moves;
+    }
+
+    /**
+     * @return the square at an index of a line of the board in a direction.
+     */
+    private char square(Direction direction, int line, int index) {
+        return direction == Direction.ACROSS ? squares[line][index] : squares[index][line];
+    }
+
+    private char premium(Direction direction, int line, int index) {
+        return direction == Direction.ACROSS ? PREMIUMS[line].charAt(index) : PREMIUMS[index].charAt(line);
+    }
+
+    private boolean isEmpty(Direction direction, int line, int index) {
+        return line < 0 || line >= SIZE || index < 0 || index >= SIZE
+            || square(direction, line, index) == BoardLine.EMPTY;
+    }
+
+    private static int points(char letter) {
+        return letter >= 'a' && letter <= 'z' ? LetterScores.of(letter) : 0;
+    }
+
+    /**
+     * Generates and scores the moves on one line of the board.
+     */
+    private class LineScorer implements MoveCollector {
+
+        private final Gaddag gaddag;
+
+        private final Direction direction;
+
+        private final int line;
+
+        private final BoardLine boardLine;
+
+        // the points of the tiles across the line next to every empty square, -1 when there is none
+        private final int[] crossPoints = new int[SIZE];
+
+        private final PriorityQueue<BoardMove> best;
+
+        private final int limit;
+
+        LineScorer(Gaddag gaddag, Direction direction, int line, PriorityQueue<BoardMove> best, int limit) {
+            this.gaddag = gaddag;
+            this.direction = direction;
+            this.line = line;
+            this.best = best;
+            this.limit = limit;
+            StringBuilder squares = new StringBuilder(SIZE);
+            for (int index = 0; index < SIZE; index++) {
+                squares.append(square(direction, line, index));
+            }
+            boardLine = new BoardLine(squares);
+            for (int index = 0; index < SIZE; index++) {
+                crossPoints[index] = -1;
+                if (boardLine.isEmpty(index)) {
+                    prepare(index);
+                }
+            }
+        }
+
+        void generate(char[] rack) {
+            gaddag.generateMoves(boardLine, rack, this);
+        }
+
+        /**
+         * Set the anchor and the cross-check of an empty square.
+         */
+        private void prepare(int index) {
+            boolean crossed = !isEmpty(direction, line - 1, index) || !isEmpty(direction, line + 1, index);
+            boolean anchor = crossed || !isEmpty(direction, line, index - 1) || !isEmpty(direction, line, index + 1)
+                || empty && line == CENTER && index == CENTER;
+            boardLine.setAnchor(index, anchor);
+            if (crossed) {
+                StringBuilder before = new StringBuilder();
+                StringBuilder after = new StringBuilder();
+                int points = 0;
+                for (int across = line - 1; !isEmpty(direction, across, index); across--) {
+                    before.append(square(direction, across, index));
+                    points += points(square(direction, across, index));
+                }
+                before.reverse();
+                for (int across = line + 1; !isEmpty(direction, across, index); across++) {
+                    after.append(square(direction, across, index));
+                    points += points(square(direction, across, index));
+                }
+                boardLine.setCrossCheck(index, gaddag.crossCheck(before, after));
+                crossPoints[index] = points;
+            }
+        }
+
+        @Override
+        public void collect(char[] squares, int start, int length) {
+            if (length < 2) {
+                return;
+            }
+            int tiles = 0;
+            int wordPoints = 0;
+            int wordMultiplier = 1;
+            int crossScore = 0;
+            int lastTile = -1;
+            for (int index = start; index < start + length; index++) {
+                int points = points(squares[index]);
+                if (!boardLine.isEmpty(index)) {
+                    wordPoints += points;
+                    continue;
+                }
+                tiles++;
+                lastTile = index;
+                char premium = premium(direction, line, index);
+                int letterPoints = points * (premium == 'd' ? 2 : premium == 't' ? 3 : 1);
+                int squareMultiplier = premium == 'D' ? 2 : premium == 'T' ? 3 : 1;
+                wordPoints += letterPoints;
+                wordMultiplier *= squareMultiplier;
+                if (crossPoints[index] >= 0) {
+                    crossScore += (crossPoints[index] + letterPoints) * squareMultiplier;
+                }
+            }
+            if (direction == Direction.DOWN && tiles == 1 && crossPoints[lastTile] >= 0) {
+                // the same move was found across
+                return;
+            }
+            int score = wordPoints * wordMultiplier + crossScore + (tiles == RACK_SIZE ? BINGO_BONUS : 0);
+            if (best.size() == limit && score < best.peek().getScore()) {
+                return;
+            }
+            int row = direction == Direction.ACROSS ? line : start;
+            int column = direction == Direction.ACROSS ? start : line;
+            BoardMove move = new BoardMove(row, column, direction, new String(squares, start, length), score);
+            if (best.size() < limit) {
+                best.add(move);
+            } else if (BoardMove.BEST_FIRST.compare(move, best.peek()) < 0) {
+                best.poll();
+                best.add(move);
+            }
+        }
+    }
+}
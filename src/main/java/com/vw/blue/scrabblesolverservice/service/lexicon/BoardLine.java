@@ -0,0 +1,109 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.util.Arrays;
+
+/**
+ * A row or a column of a board, on which a {@link Gaddag} generates the placements of words.
+ * <p>
+ * Every square is either {@link #EMPTY} or holds a letter, in upper case when its tile is a blank. Moves are
+ * generated through the anchor squares, the empty squares a word can be connected to the board by, and may only place
+ * on an empty square the letters of its cross-check, the mask of the letters forming a word with the tiles above and
+ * below it. By default the anchors are the empty squares next to a letter of the line and every letter is allowed.
+ */
+public class BoardLine {
+
+    /**
+     * An empty square.
+     */
+    public static final char EMPTY = '.';
+
+    /**
+     * The cross-check allowing every letter.
+     */
+    public static final int ANY_LETTER = (1 << 26) - 1;
+
+    private final char[] squares;
+
+    private final boolean[] anchors;
+
+    private final int[] crossChecks;
+
+    /**
+     * @param squares the squares of the line, {@link #EMPTY} or letters, in upper case for blanks.
+     * @throws IllegalArgumentException if a square is neither empty nor a letter.
+     */
+    public BoardLine(CharSequence squares) {
+        int length = squares.length();
+        this.squares = new char[length];
+        this.anchors = new boolean[length];
+        this.crossChecks = new int[length];
+        Arrays.fill(crossChecks, ANY_LETTER);
+        for (int i = 0; i < length; i++) {
+            char square = squares.charAt(i);
+            if (square != EMPTY && !(square >= 'a' && square <= 'z') && !(square >= 'A' && square <= 'Z')) {
+                throw new IllegalArgumentException("Invalid square " + square + " at " + i + " in " + squares);
+            }
+            this.squares[i] = square;
+        }
+        for (int i = 0; i < length; i++) {
+            anchors[i] = isEmpty(i) && (i > 0 && !isEmpty(i - 1) || i + 1 < length && !isEmpty(i + 1));
+        }
+    }
+
+    /**
+     * @return the number of squares.
+     */
+    public int length() {
+        return squares.length;
+    }
+
+    /**
+     * @return the letter on the square, in upper case for a blank, or {@link #EMPTY}.
+     */
+    public char square(int index) {
+        return squares[index];
+    }
+
+    public boolean isEmpty(int index) {
+        return squares[index] == EMPTY;
+    }
+
+    public boolean isAnchor(int index) {
+        return anchors[index];
+    }
+
+    /**
+     * @param anchor whether words can be connected to the board through the square, which must be empty.
+     * @return this line.
+     */
+    public BoardLine setAnchor(int index, boolean anchor) {
+        if (anchor && !isEmpty(index)) {
+            throw new IllegalArgumentException("Only an empty square can be an anchor: " + index);
+        }
+        anchors[index] = anchor;
+        return this;
+    }
+
+    /**
+     * @return the mask of the letters which can be placed on the square, bit {@code 0} for {@code a}.
+     */
+    public int crossCheck(int index) {
+        return crossChecks[index];
+    }
+
+    /**
+     * @param crossCheck the mask of the letters which can be placed on the square, bit {@code 0} for {@code a}.
+     * @return this line.
+     */
+    public BoardLine setCrossCheck(int index, int crossCheck) {
+        crossChecks[index] = crossCheck & ANY_LETTER;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardLine{" +
+            "squares=" + new String(squares) +
+            '}';
+    }
+}
@@ -0,0 +1,86 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.util.Comparator;
+
+/**
+ * A move on a {@link Board}: a word placed from a square in a direction, with its score.
+ */
+public final class BoardMove {
+
+    /**
+     * The directions a word can be placed in.
+     */
+    public enum Direction {
+        ACROSS, DOWN
+    }
+
+    /**
+     * Orders moves by decreasing score, then alphabetically, then by square and direction.
+     */
+    public static final Comparator<BoardMove> BEST_FIRST = Comparator.comparingInt(BoardMove::getScore).reversed()
+        .thenComparing(BoardMove::getWord)
+        .thenComparingInt(BoardMove::getRow)
+        .thenComparingInt(BoardMove::getColumn)
+        .thenComparing(BoardMove::getDirection);
+
+    private final int row;
+
+    private final int column;
+
+    private final Direction direction;
+
+    private final String word;
+
+    private final int score;
+
+    public BoardMove(int row, int column, Direction direction, String word, int score) {
+        this.row = row;
+        this.column = column;
+        this.direction = direction;
+        this.word = word;
+        this.score = score;
+    }
+
+    /**
+     * @return the row of the first letter of the word, from {@code 0}.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * @return the column of the first letter of the word, from {@code 0}.
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * @return the whole word, with the letters played as blanks in upper case.
+     */
+    public String getWord() {
+        return word;
+    }
+
+    /**
+     * @return the score of the word and of all the words it forms across it.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardMove{" +
+            "row=" + row +
+            ", column=" + column +
+            ", direction=" + direction +
+            ", word='" + word + '\'' +
+            ", score=" + score +
+            '}';
+    }
+}
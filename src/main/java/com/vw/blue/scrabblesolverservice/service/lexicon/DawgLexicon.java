@@ -0,0 +1,63 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.nio.IntBuffer;
+import java.util.Collections;
+import java.util.SortedSet;
+
+/**
+ * A {@link PackedLexicon} backed by a minimized directed acyclic word graph (DAWG). Words sharing a suffix share the
+ * nodes of that suffix, so the graph has a fraction of the nodes of the equivalent trie.
+ */
+public class DawgLexicon extends PackedLexicon {
+
+    static final DawgLexicon EMPTY = of(Collections.emptyList());
+
+    static final DawgLexicon EMPTY_OFF_HEAP = offHeap(Collections.emptyList());
+
+    // whether the lexicons built from this one keep their edges off heap
+    private final boolean buildsOffHeap;
+
+    private DawgLexicon(Builder builder, boolean offHeap) {
+        super(builder, offHeap);
+        this.buildsOffHeap = offHeap;
+    }
+
+    /**
+     * @param edges the packed edges, for instance mapped from a {@link LexiconSnapshot}.
+     * @param size the number of words.
+     * @param nodeCount the number of nodes with at least one edge.
+     * @param buildsOffHeap whether the lexicons built from this one keep their edges off heap.
+     */
+    DawgLexicon(IntBuffer edges, int size, int nodeCount, boolean buildsOffHeap) {
+        super(edges, size, nodeCount);
+        this.buildsOffHeap = buildsOffHeap;
+    }
+
+    /**
+     * Build a lexicon from words in any order.
+     *
+     * @param words the valid lower-case words.
+     * @return the lexicon.
+     */
+    public static DawgLexicon of(Iterable<String> words) {
+        return new DawgLexicon(Builder.of(true, words), false);
+    }
+
+    /**
+     * Build a lexicon from words in any order, whose edges are stored in a direct buffer out of the Java heap. The
+     * buffer is only released once the lexicon is garbage collected.
+     *
+     * @param words the valid lower-case words.
+     * @return the lexicon, whose {@link #addAll(Iterable)} builds off heap lexicons too.
+     * @throws IllegalArgumentException if the edges do not fit in a direct buffer.
+     */
+    public static DawgLexicon offHeap(Iterable<String> words) {
+        return new DawgLexicon(Builder.of(true, words), true);
+    }
+
+    @Override
+    public Lexicon addAll(Iterable<String> words) {
+        SortedSet<String> union = union(this, words);
+        return buildsOffHeap ? offHeap(union) : of(union);
+    }
+}
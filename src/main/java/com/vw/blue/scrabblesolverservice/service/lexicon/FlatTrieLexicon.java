@@ -0,0 +1,36 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.nio.IntBuffer;
+import java.util.Collections;
+
+/**
+ * A {@link PackedLexicon} backed by a plain trie. It holds more nodes than a {@link DawgLexicon}, but every node is
+ * reached by a single path, and it builds faster.
+ */
+public class FlatTrieLexicon extends PackedLexicon {
+
+    static final FlatTrieLexicon EMPTY = of(Collections.emptyList());
+
+    private FlatTrieLexicon(Builder builder) {
+        super(builder);
+    }
+
+    FlatTrieLexicon(IntBuffer edges, int size, int nodeCount) {
+        super(edges, size, nodeCount);
+    }
+
+    /**
+     * Build a lexicon from words in any order.
+     *
+     * @param words the valid lower-case words.
+     * @return the lexicon.
+     */
+    public static FlatTrieLexicon of(Iterable<String> words) {
+        return new FlatTrieLexicon(Builder.of(false, words));
+    }
+
+    @Override
+    public Lexicon addAll(Iterable<String> words) {
+        return of(union(this, words));
+    }
+}
@@ -0,0 +1,295 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.vw.blue.scrabblesolverservice.service.lexicon.PackedLexicon.*;
+
+/**
+ * A GADDAG of words, generating their placements on a {@link BoardLine}, after Gordon's "A Faster Scrabble Move
+ * Generation Algorithm".
+ * <p>
+ * For every word and every split of it into a non-empty prefix and a suffix, the graph holds the reversed prefix, a
+ * separator, then the suffix, the separator being left out when the suffix is empty. The placements through an
+ * anchor square are generated in a single walk of the graph: from the anchor leftwards along the reversed prefixes,
+ * then after a separator rightwards from the square after the anchor. A walk never crosses another empty anchor, so
+ * every placement is generated once, from the leftmost anchor it covers.
+ * <p>
+ * The graph is packed and minimized like a {@link DawgLexicon}, the separator being the letter after {@code z}.
+ * It is immutable, and can be searched from any number of threads at once.
+ */
+public class Gaddag {
+
+    static final int SEPARATOR = ALPHABET_SIZE;
+
+    private static final char SEPARATOR_CHAR = (char) ('a' + SEPARATOR);
+
+    private final int[] edges;
+
+    private Gaddag(int[] edges) {
+        this.edges = edges;
+    }
+
+    /**
+     * Build the GADDAG of the words of a lexicon.
+     *
+     * @param lexicon the lexicon.
+     * @return the GADDAG.
+     */
+    public static Gaddag of(Lexicon lexicon) {
+        List<String> words = new ArrayList<>(lexicon.size());
+        lexicon.forEachWord(words::add);
+        return of(words);
+    }
+
+    /**
+     * Build the GADDAG of words in any order.
+     *
+     * @param words the valid lower-case words.
+     * @return the GADDAG.
+     */
+    public static Gaddag of(Iterable<String> words) {
+        PackedLexicon.Builder builder = new PackedLexicon.Builder(true);
+        // the paths starting with one letter at a time, to only hold a fraction of them in memory
+        List<String> paths = new ArrayList<>();
+        StringBuilder path = new StringBuilder();
+        for (char first = 'a'; first <= 'z'; first++) {
+            for (String word : words) {
+                for (int split = 1; split <= word.length(); split++) {
+                    if (word.charAt(split - 1) == first) {
+                        path.setLength(0);
+                        path.append(word, 0, split).reverse();
+                        if (split < word.length()) {
+                            path.append(SEPARATOR_CHAR).append(word, split, word.length());
+                        }
+                        paths.add(path.toString());
+                    }
+                }
+            }
+            Collections.sort(paths);
+            String previous = null;
+            for (String added : paths) {
+                if (!added.equals(previous)) {
+                    builder.add(added);
+                    previous = added;
+                }
+            }
+            paths.clear();
+        }
+        return new Gaddag(builder.packEdges());
+    }
+
+    /**
+     * Generate every placement of a word through the anchors of a line which the rack can make. A placement puts at
+     * least one tile on the line, only puts letters of their cross-checks on the squares, and is not adjoined by other
+     * letters of the line.
+     *
+     * @param line the line.
+     * @param rack the lower-case letters and {@link Lexicon#BLANK}s of the rack, other characters are ignored.
+     * @param collector receives every placement.
+     */
+    public void generateMoves(BoardLine line, char[] rack, MoveCollector collector) {
+        if (edges.length == 0) {
+            return;
+        }
+        Search search = new Search(line, rack, collector);
+        for (int anchor = 0; anchor < line.length(); anchor++) {
+            if (line.isAnchor(anchor)) {
+                search.anchor = anchor;
+                search.follow(anchor, anchor, ROOT, false);
+            }
+        }
+    }
+
+    /**
+     * Compute the cross-check of a square, for the word crossing the line the moves are generated on.
+     *
+     * @param before the letters of the crossing word before the square, in upper case for blanks.
+     * @param after the letters of the crossing word after the square, in upper case for blanks.
+     * @return the mask of the letters which form a word between the letters before and after, bit {@code 0} for
+     * {@code a}.
+     */
+    public int crossCheck(CharSequence before, CharSequence after) {
+        int mask = 0;
+        for (int edge = ROOT; edges.length > 0; edge += STRIDE) {
+            int letter = edges[edge] & LETTER_MASK;
+            if (letter != SEPARATOR && accepts(edge, before, after)) {
+                mask |= 1 << letter;
+            }
+            if ((edges[edge] & LAST) != 0) {
+                break;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @return the number of edges.
+     */
+    public int edgeCount() {
+        return edges.length / STRIDE;
+    }
+
+    @Override
+    public String toString() {
+        return "Gaddag{" +
+            "edgeCount=" + edgeCount() +
+            '}';
+    }
+
+    /**
+     * @return whether the path from the edge of a letter along the reversed letters before it, the separator and the
+     * letters after it ends a word.
+     */
+    private boolean accepts(int edge, CharSequence before, CharSequence after) {
+        for (int i = before.length() - 1; i >= 0 && edge != NO_EDGES; i--) {
+            edge = edge(edges[edge + 1], Character.toLowerCase(before.charAt(i)) - 'a');
+        }
+        if (edge != NO_EDGES && after.length() > 0) {
+            edge = edge(edges[edge + 1], SEPARATOR);
+            for (int i = 0; i < after.length() && edge != NO_EDGES; i++) {
+                edge = edge(edges[edge + 1], Character.toLowerCase(after.charAt(i)) - 'a');
+            }
+        }
+        return edge != NO_EDGES && (edges[edge] & TERMINAL) != 0;
+    }
+
+    /**
+     * @return the edge of a node with the letter, or {@link PackedLexicon#NO_EDGES} if there is none.
+     */
+    private int edge(int node, int letter) {
+        if (node == NO_EDGES) {
+            return NO_EDGES;
+        }
+        for (int edge = node; ; edge += STRIDE) {
+            int header = edges[edge];
+            if ((header & LETTER_MASK) == letter) {
+                return edge;
+            }
+            if ((header & LAST) != 0 || (header & LETTER_MASK) > letter) {
+                return NO_EDGES;
+            }
+        }
+    }
+
+    /**
+     * The state of the generation of the placements on one line.
+     */
+    private class Search {
+
+        private final BoardLine line;
+
+        private final int[] counts = new int[ALPHABET_SIZE];
+
+        private int blanks;
+
+        // the squares of the line with the tiles placed so far
+        private final char[] squares;
+
+        private final MoveCollector collector;
+
+        private int anchor;
+
+        Search(BoardLine line, char[] rack, MoveCollector collector) {
+            this.line = line;
+            this.collector = collector;
+            for (char c : rack) {
+                if (c == Lexicon.BLANK) {
+                    blanks++;
+                } else if (c >= 'a' && c <= 'z') {
+                    counts[c - 'a']++;
+                }
+            }
+            squares = new char[line.length()];
+            for (int i = 0; i < squares.length; i++) {
+                squares[i] = line.square(i);
+            }
+        }
+
+        /**
+         * Follow the edges of a node with the letter on a square: the letter of the line, or any letter of the rack
+         * and of the cross-check of the empty square, played from a tile then from a blank.
+         *
+         * @param index the square.
+         * @param start the first square of the word when going right of the anchor.
+         * @param node the node.
+         * @param rightward whether the square is right of the anchor, or else the anchor or left of it.
+         */
+        void follow(int index, int start, int node, boolean rightward) {
+            boolean empty = line.isEmpty(index);
+            int fixed = empty ? -1 : Character.toLowerCase(squares[index]) - 'a';
+            int crossCheck = line.crossCheck(index);
+            for (int edge = node; ; edge += STRIDE) {
+                int header = edges[edge];
+                int letter = header & LETTER_MASK;
+                if (!empty) {
+                    if (letter == fixed) {
+                        next(index, start, edge, header, rightward);
+                    }
+                } else if (letter != SEPARATOR && (crossCheck & 1 << letter) != 0) {
+                    if (counts[letter] > 0) {
+                        counts[letter]--;
+                        squares[index] = (char) ('a' + letter);
+                        next(index, start, edge, header, rightward);
+                        counts[letter]++;
+                    }
+                    if (blanks > 0) {
+                        blanks--;
+                        squares[index] = (char) ('A' + letter);
+                        next(index, start, edge, header, rightward);
+                        blanks++;
+                    }
+                }
+                if ((header & LAST) != 0) {
+                    return;
+                }
+            }
+        }
+
+        private void next(int index, int start, int edge, int header, boolean rightward) {
+            if (rightward) {
+                nextRight(index, start, edge, header);
+            } else {
+                nextLeft(index, edge, header);
+            }
+        }
+
+        /**
+         * Collect the word which starts on a square left of the anchor or on the anchor, and ends on the anchor, then
+         * go on to the left or past the separator to the right.
+         */
+        private void nextLeft(int index, int edge, int header) {
+            boolean openLeft = index == 0 || line.isEmpty(index - 1);
+            if ((header & TERMINAL) != 0 && openLeft && (anchor + 1 == squares.length || line.isEmpty(anchor + 1))) {
+                collector.collect(squares, index, anchor - index + 1);
+            }
+            int target = edges[edge + 1];
+            if (target == NO_EDGES) {
+                return;
+            }
+            if (index > 0 && !(line.isEmpty(index - 1) && line.isAnchor(index - 1))) {
+                follow(index - 1, index - 1, target, false);
+            }
+            if (openLeft && anchor + 1 < squares.length) {
+                int separator = edge(target, SEPARATOR);
+                if (separator != NO_EDGES && edges[separator + 1] != NO_EDGES) {
+                    follow(anchor + 1, index, edges[separator + 1], true);
+                }
+            }
+        }
+
+        /**
+         * Collect the word which ends on a square right of the anchor, then go on to the right.
+         */
+        private void nextRight(int index, int start, int edge, int header) {
+            if ((header & TERMINAL) != 0 && (index + 1 == squares.length || line.isEmpty(index + 1))) {
+                collector.collect(squares, start, index - start + 1);
+            }
+            int target = edges[edge + 1];
+            if (target != NO_EDGES && index + 1 < squares.length) {
+                follow(index + 1, start, target, true);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+/**
+ * Points of the letters of an English Scrabble set.
+ * <pre>
+ * Points | Letters
+ * -------+-----------------------------
+ *    1   | A, E, I, L, N, O, R, S, T, U
+ *    2   | D, G
+ *    3   | B, C, M, P
+ *    4   | F, H, V, W, Y
+ *    5   | K
+ *    8   | J, X
+ *   10   | Q, Z
+ * </pre>
+ */
+public final class LetterScores {
+
+    private static final int[] SCORES = {
+        1, 3, 3, 2, 1, 4, 2, 4, 1, 8, 5, 1, 3, 1, 1, 3, 10, 1, 1, 1, 1, 4, 4, 8, 4, 10
+    };
+
+    private LetterScores() {
+    }
+
+    /**
+     * @param letter a lower-case letter.
+     * @return the points of the letter.
+     */
+    public static int of(char letter) {
+        return SCORES[letter - 'a'];
+    }
+
+    /**
+     * @param word a valid lower-case word.
+     * @return the sum of the points of the letters of the word.
+     */
+    public static int of(CharSequence word) {
+        int score = 0;
+        for (int i = 0; i < word.length(); i++) {
+            score += of(word.charAt(i));
+        }
+        return score;
+    }
+}
@@ -0,0 +1,84 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.util.function.Consumer;
+
+/**
+ * A word list that can be searched for the words buildable from a rack of letters.
+ * <p>
+ * Words are lower-case strings made of the letters {@code a} to {@code z}. A rack may also hold {@link #BLANK} tiles,
+ * which can be played as any letter and score no point. A search plays the letters of the rack first and blanks only
+ * for the letters the rack runs out of, so every word is found once, with its best score, and the letters played as
+ * blanks are upper-case in the words found.
+ * <p>
+ * Searches are reentrant: all their state is local to the call, so a lexicon can be searched from any number of
+ * threads at once. Adding words must be done by one thread at a time.
+ */
+public interface Lexicon {
+
+    /**
+     * The blank tile of a rack.
+     */
+    char BLANK = '?';
+
+    /**
+     * Find all words which only contain letters of the rack. If a letter appears multiple times in the rack, found
+     * words can use it up to that many times. Each blank of the rack can stand for one more letter of any kind.
+     *
+     * @param rack the lower-case letters and blanks of the rack, other characters are ignored.
+     * @param collector receives every word found.
+     */
+    void findWords(char[] rack, WordCollector collector);
+
+    /**
+     * Find the words which only contain letters of the rack, see {@link #findWords(char[], WordCollector)}, and are
+     * accepted by a filter. The default implementation skips the racks which cannot make any accepted word, then
+     * checks every word found before it is collected; lexicons may also skip the parts of their words the filter
+     * rules out.
+     *
+     * @param rack the lower-case letters and blanks of the rack, other characters are ignored.
+     * @param filter the conditions of the words.
+     * @param collector receives every word found and accepted.
+     */
+    default void findWords(char[] rack, WordFilter filter, WordCollector collector) {
+        if (filter.canMatch(rack)) {
+            findWords(rack, filter.filter(collector));
+        }
+    }
+
+    /**
+     * Add words to the lexicon. Mutable lexicons add them in place and return themselves, immutable lexicons return
+     * a new lexicon holding both their own words and the given ones.
+     *
+     * @param words the valid lower-case words to add.
+     * @return the lexicon holding the words.
+     */
+    Lexicon addAll(Iterable<String> words);
+
+    /**
+     * Check whether the lexicon holds a word. The default implementation searches the letters of the word.
+     *
+     * @param word a valid lower-case word.
+     * @return whether the lexicon holds the word.
+     */
+    default boolean contains(String word) {
+        boolean[] found = new boolean[1];
+        findWords(word.toCharArray(), (letters, length, score) -> {
+            if (length == word.length() && word.equals(new String(letters, 0, length))) {
+                found[0] = true;
+            }
+        });
+        return found[0];
+    }
+
+    /**
+     * Visit every word of the lexicon.
+     *
+     * @param consumer receives every word.
+     */
+    void forEachWord(Consumer<String> consumer);
+
+    /**
+     * @return the number of words in the lexicon.
+     */
+    int size();
+}
@@ -0,0 +1,155 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * A binary snapshot of a {@link PackedLexicon}, which is mapped in memory instead of being read, so the lexicon is
+ * searched straight from the file without deserializing anything, and the processes mapping the same file share its
+ * pages.
+ * <p>
+ * The snapshot is a header of {@link #HEADER_BYTES} bytes followed by the packed edges, all little-endian ints:
+ * <ul>
+ * <li>{@link #MAGIC} and the {@link #VERSION} of the format;</li>
+ * <li>the {@link LexiconType} of the lexicon, {@code 1} for {@link LexiconType#DAWG} and
+ * {@link LexiconType#OFF_HEAP}, whose edges are laid out the same, and {@code 2} for {@link LexiconType#FLAT};</li>
+ * <li>the number of words, of nodes and of edge ints;</li>
+ * <li>the {@link #checksum} of the words the lexicon was built from, as a long.</li>
+ * </ul>
+ * A snapshot of another version, type or checksum is stale and never mapped.
+ */
+public final class LexiconSnapshot {
+
+    /**
+     * The first int of a snapshot, "BLEX".
+     */
+    public static final int MAGIC = 0x424C4558;
+
+    /**
+     * The version of the format, incremented on every incompatible change.
+     */
+    public static final int VERSION = 1;
+
+    static final int HEADER_BYTES = 32;
+
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private LexiconSnapshot() {
+    }
+
+    /**
+     * @return whether lexicons of the type can be saved as snapshots.
+     */
+    public static boolean supports(LexiconType type) {
+        return typeCode(type) != 0;
+    }
+
+    /**
+     * Compute the checksum of the words a lexicon is built from, in their order.
+     *
+     * @param words the words.
+     * @return the CRC-32 of the words, each followed by a line feed.
+     */
+    public static long checksum(Iterable<String> words) {
+        CRC32 crc = new CRC32();
+        for (String word : words) {
+            crc.update(word.getBytes(StandardCharsets.UTF_8));
+            crc.update('\n');
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Write the snapshot of a lexicon. It is written to a temporary file which then replaces the file, so the
+     * processes which mapped the previous snapshot keep reading it.
+     *
+     * @param lexicon a {@link DawgLexicon} or a {@link FlatTrieLexicon}.
+     * @param checksum the checksum of the words the lexicon was built from.
+     * @param file the snapshot file, created with its directories if it does not exist.
+     * @throws IOException if the snapshot could not be written.
+     */
+    public static void write(PackedLexicon lexicon, long checksum, Path file) throws IOException {
+        int type = lexicon instanceof DawgLexicon ? typeCode(LexiconType.DAWG) : typeCode(LexiconType.FLAT);
+        IntBuffer edges = lexicon.edges();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + edges.limit() * Integer.BYTES).order(ORDER);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(type)
+            .putInt(lexicon.size()).putInt(lexicon.nodeCount()).putInt(edges.limit())
+            .putLong(checksum);
+        buffer.asIntBuffer().put(edges);
+        buffer.rewind();
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Map the snapshot of a lexicon, if it is current.
+     *
+     * @param file the snapshot file.
+     * @param type the type of the lexicon.
+     * @param checksum the checksum of the words the lexicon must have been built from.
+     * @return the lexicon searching the mapped file, or empty if there is no file, or it is a snapshot of another
+     * version, type or checksum.
+     * @throws IOException if the file could not be mapped, or is truncated.
+     */
+    public static Optional<PackedLexicon> map(Path file, LexiconType type, long checksum) throws IOException {
+        if (!supports(type) || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                return Optional.empty();
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ORDER);
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != typeCode(type)
+            || buffer.getLong(24) != checksum) {
+            return Optional.empty();
+        }
+        int size = buffer.getInt(12);
+        int nodeCount = buffer.getInt(16);
+        int edgeInts = buffer.getInt(20);
+        if (buffer.capacity() != HEADER_BYTES + (long) edgeInts * Integer.BYTES) {
+            throw new IOException("Truncated lexicon snapshot " + file + ": " + buffer.capacity() + " bytes");
+        }
+        buffer.position(HEADER_BYTES);
+        IntBuffer edges = buffer.slice().order(ORDER).asIntBuffer();
+        return Optional.of(type == LexiconType.FLAT
+            ? new FlatTrieLexicon(edges, size, nodeCount)
+            : new DawgLexicon(edges, size, nodeCount, type == LexiconType.OFF_HEAP));
+    }
+
+    private static int typeCode(LexiconType type) {
+        switch (type) {
+            case DAWG:
+            case OFF_HEAP:
+                return 1;
+            case FLAT:
+                return 2;
+            default:
+                return 0;
+        }
+    }
+}
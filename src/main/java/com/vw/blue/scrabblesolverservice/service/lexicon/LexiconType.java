@@ -0,0 +1,114 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.util.Collection;
+
+/**
+ * The data structures a {@link Lexicon} can be backed by.
+ */
+public enum LexiconType {
+
+    /**
+     * A trie with one node object per letter, see {@link TrieLexicon}.
+     */
+    TRIE {
+        @Override
+        public Lexicon empty() {
+            return new TrieLexicon();
+        }
+
+        @Override
+        public Lexicon of(Collection<String> words) {
+            return TrieLexicon.of(words);
+        }
+
+        @Override
+        public boolean supports(Alphabet alphabet) {
+            return true;
+        }
+
+        @Override
+        public Lexicon of(Collection<String> words, Alphabet alphabet) {
+            return TrieLexicon.of(words, alphabet);
+        }
+    },
+
+    /**
+     * A minimized directed acyclic word graph, see {@link DawgLexicon}.
+     */
+    DAWG {
+        @Override
+        public Lexicon empty() {
+            return DawgLexicon.EMPTY;
+        }
+    },
+
+    /**
+     * A {@link #DAWG} whose packed edges are stored in a direct buffer, out of the Java heap, so the garbage
+     * collector never scans nor copies them, see {@link DawgLexicon#offHeap(Iterable)}.
+     */
+    OFF_HEAP {
+        @Override
+        public Lexicon empty() {
+            return DawgLexicon.EMPTY_OFF_HEAP;
+        }
+    },
+
+    /**
+     * A trie packed into a single {@code int[]}, see {@link FlatTrieLexicon}.
+     */
+    FLAT {
+        @Override
+        public Lexicon empty() {
+            return FlatTrieLexicon.EMPTY;
+        }
+    },
+
+    /**
+     * A hash index from letter multisets to words, see {@link SignatureLexicon}.
+     */
+    SIGNATURE {
+        @Override
+        public Lexicon empty() {
+            return SignatureLexicon.EMPTY;
+        }
+    };
+
+    /**
+     * @return a lexicon of this type without any word.
+     */
+    public abstract Lexicon empty();
+
+    /**
+     * Build a lexicon of this type, in parallel when the type supports it.
+     *
+     * @param words the valid lower-case words.
+     * @return a lexicon of this type holding the words.
+     */
+    public Lexicon of(Collection<String> words) {
+        return empty().addAll(words);
+    }
+
+    /**
+     * @param alphabet an alphabet.
+     * @return whether lexicons of this type can hold words of the alphabet, only {@link #TRIE} supports other
+     * alphabets than {@link Alphabet#ENGLISH}.
+     */
+    public boolean supports(Alphabet alphabet) {
+        return alphabet == Alphabet.ENGLISH;
+    }
+
+    /**
+     * Build a lexicon of this type, in parallel when the type supports it.
+     *
+     * @param words the lower-case words, made of tiles of the alphabet.
+     * @param alphabet the tiles the words are made of.
+     * @return a lexicon of this type holding the words.
+     * @throws IllegalArgumentException if this type does not {@link #supports support} the alphabet.
+     */
+    public Lexicon of(Collection<String> words, Alphabet alphabet) {
+        if (!supports(alphabet)) {
+            throw new IllegalArgumentException(this + " lexicons do not support the " + alphabet);
+        }
+        return of(words);
+    }
+}
@@ -0,0 +1,46 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.util.Comparator;
+
+/**
+ * A placement of a word on a {@link BoardLine}.
+ */
+public final class LineMove {
+
+    /**
+     * Orders moves by first square, then alphabetically.
+     */
+    public static final Comparator<LineMove> BY_START =
+        Comparator.comparingInt(LineMove::getStart).thenComparing(LineMove::getWord);
+
+    private final int start;
+
+    private final String word;
+
+    public LineMove(int start, String word) {
+        this.start = start;
+        this.word = word;
+    }
+
+    /**
+     * @return the index of the first square of the word.
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * @return the word, with the letters played as blanks in upper case.
+     */
+    public String getWord() {
+        return word;
+    }
+
+    @Override
+    public String toString() {
+        return "LineMove{" +
+            "start=" + start +
+            ", word='" + word + '\'' +
+            '}';
+    }
+}
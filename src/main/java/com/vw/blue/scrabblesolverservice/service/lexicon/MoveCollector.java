@@ -0,0 +1,20 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+/**
+ * Receives the placements generated by a {@link Gaddag} on a {@link BoardLine}.
+ * <p>
+ * The generator reuses one buffer for all the placements, so the collector must copy what it keeps.
+ */
+@FunctionalInterface
+public interface MoveCollector {
+
+    /**
+     * Collect a placement. The tiles it places are on the squares of the word which are empty on the line.
+     *
+     * @param line the buffer holding the squares of the line, only valid from start to start + length during the
+     * call, the letters played as blanks in upper case.
+     * @param start the index of the first square of the word.
+     * @param length the number of letters of the word.
+     */
+    void collect(char[] line, int start, int length);
+}
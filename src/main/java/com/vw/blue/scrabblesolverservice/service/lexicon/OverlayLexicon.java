@@ -0,0 +1,223 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * An immutable {@link Lexicon} made of a base lexicon, which it never modifies, and of the words added to and removed
+ * from it since. The changes are kept in two persistent {@link TrieLexicon}s, of the words added and of the words
+ * removed: every change returns a new overlay whose tries share all their nodes with the previous ones but the ones on
+ * the path of the word changed, see {@link TrieLexicon#withWord(String)}. A change costs the length of its word
+ * however large the base and however many changes are pending, and a search sees either all of a change or none of
+ * it.
+ * <p>
+ * The added words override the base: they are searched in their own trie, and the words of the base which were added
+ * or removed since are left out of its results. Once the changes pile up, {@link #compact()} builds a new base
+ * holding all the words.
+ */
+public final class OverlayLexicon implements Lexicon {
+
+    private final LexiconType type;
+
+    private final Lexicon base;
+
+    // the words added since the base was built, and not removed since, none of them in the base unless removed first
+    private final TrieLexicon added;
+
+    // the words removed since the base was built, and not added since, whether the base holds them or not
+    private final TrieLexicon removed;
+
+    // bit n is set when a word of length n, or of at least 63 letters, was added or removed
+    private final long changedLengths;
+
+    private final int size;
+
+    private OverlayLexicon(LexiconType type, Lexicon base, TrieLexicon added, TrieLexicon removed, long changedLengths,
+                           int size) {
+        this.type = type;
+        this.base = base;
+        this.added = added;
+        this.removed = removed;
+        this.changedLengths = changedLengths;
+        this.size = size;
+    }
+
+    /**
+     * @param type the type of the base, and of the bases built when compacting.
+     * @param base the base, which must not be modified afterwards.
+     * @return an overlay of the base without any change.
+     */
+    public static OverlayLexicon of(LexiconType type, Lexicon base) {
+        return new OverlayLexicon(type, base, new TrieLexicon(), new TrieLexicon(), 0, base.size());
+    }
+
+    /**
+     * @return an overlay of an empty lexicon of the type.
+     */
+    public static OverlayLexicon empty(LexiconType type) {
+        return of(type, type.empty());
+    }
+
+    @Override
+    public void findWords(char[] rack, WordCollector collector) {
+        if (changedLengths == 0) {
+            base.findWords(rack, collector);
+        } else {
+            base.findWords(rack, (word, length, score) -> {
+                if ((changedLengths & lengthBit(length)) == 0 || !isChanged(word, length)) {
+                    collector.collect(word, length, score);
+                }
+            });
+            added.findWords(rack, collector);
+        }
+    }
+
+    /**
+     * Search the base and the added words with the filter, so the base skips what the filter rules out.
+     */
+    @Override
+    public void findWords(char[] rack, WordFilter filter, WordCollector collector) {
+        if (changedLengths == 0) {
+            base.findWords(rack, filter, collector);
+        } else {
+            base.findWords(rack, filter, (word, length, score) -> {
+                if ((changedLengths & lengthBit(length)) == 0 || !isChanged(word, length)) {
+                    collector.collect(word, length, score);
+                }
+            });
+            added.findWords(rack, filter, collector);
+        }
+    }
+
+    /**
+     * @return a new overlay with the words added as well, or this one if it holds them all already.
+     */
+    @Override
+    public OverlayLexicon addAll(Iterable<String> words) {
+        TrieLexicon added = this.added;
+        TrieLexicon removed = this.removed;
+        long changedLengths = this.changedLengths;
+        int size = this.size;
+        for (String word : words) {
+            TrieLexicon unremoved = removed.withoutWord(word);
+            if (unremoved != removed || !added.contains(word) && !base.contains(word)) {
+                removed = unremoved;
+                added = added.withWord(word);
+                changedLengths |= lengthBit(word.length());
+                size++;
+            }
+        }
+        return added == this.added ? this : new OverlayLexicon(type, base, added, removed, changedLengths, size);
+    }
+
+    /**
+     * @param words the valid lower-case words to remove, which may not be in the lexicon.
+     * @return a new overlay without the words, or this one if it has recorded their removal already.
+     */
+    public OverlayLexicon removeAll(Iterable<String> words) {
+        TrieLexicon added = this.added;
+        TrieLexicon removed = this.removed;
+        long changedLengths = this.changedLengths;
+        int size = this.size;
+        for (String word : words) {
+            TrieLexicon unadded = added.withoutWord(word);
+            if (unadded != added || !removed.contains(word)) {
+                // the removal of a word the base does not hold is kept for the bases built later
+                if (unadded != added || base.contains(word)) {
+                    size--;
+                }
+                added = unadded;
+                removed = removed.withWord(word);
+                changedLengths |= lengthBit(word.length());
+            }
+        }
+        return removed == this.removed ? this : new OverlayLexicon(type, base, added, removed, changedLengths, size);
+    }
+
+    /**
+     * Apply the changes made between two versions of another overlay, typically the changes made while this one was
+     * compacted from the earlier version.
+     *
+     * @param from the earlier version.
+     * @param to the later version, changed from the earlier one, over the same base.
+     * @return a new overlay with the words added between the versions added, and the ones removed removed.
+     */
+    public OverlayLexicon withChanges(OverlayLexicon from, OverlayLexicon to) {
+        List<String> addedSince = new ArrayList<>();
+        to.added.forEachWord(word -> {
+            if (!from.added.contains(word)) {
+                addedSince.add(word);
+            }
+        });
+        List<String> removedSince = new ArrayList<>();
+        to.removed.forEachWord(word -> {
+            if (!from.removed.contains(word)) {
+                removedSince.add(word);
+            }
+        });
+        OverlayLexicon changed = this;
+        if (!addedSince.isEmpty()) {
+            changed = changed.addAll(addedSince);
+        }
+        if (!removedSince.isEmpty()) {
+            changed = changed.removeAll(removedSince);
+        }
+        return changed;
+    }
+
+    /**
+     * @return an overlay without any change, of a new base holding all the words of this one.
+     */
+    public OverlayLexicon compact() {
+        List<String> words = new ArrayList<>(size);
+        forEachWord(words::add);
+        return of(type, type.of(words));
+    }
+
+    /**
+     * @return the number of words added or removed since the base was built.
+     */
+    public int changeCount() {
+        return added.size() + removed.size();
+    }
+
+    /**
+     * @return the lexicon the changes are applied to.
+     */
+    public Lexicon base() {
+        return base;
+    }
+
+    @Override
+    public void forEachWord(Consumer<String> consumer) {
+        base.forEachWord(word -> {
+            if (!added.contains(word) && !removed.contains(word)) {
+                consumer.accept(word);
+            }
+        });
+        added.forEachWord(consumer);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "OverlayLexicon{" +
+            "base=" + base +
+            ", added=" + added.size() +
+            ", removed=" + removed.size() +
+            ", size=" + size +
+            '}';
+    }
+
+    private boolean isChanged(char[] word, int length) {
+        return added.containsIgnoreCase(word, length) || removed.containsIgnoreCase(word, length);
+    }
+
+    private static long lengthBit(int length) {
+        return 1L << Math.min(length, 63);
+    }
+}
@@ -0,0 +1,475 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Lexicon} whose word graph is packed into a single buffer of ints, so the search walks one contiguous
+ * block of memory instead of following object pointers. The buffer is a heap {@code int[]} for a built lexicon, a
+ * direct buffer out of the Java heap for a lexicon built off heap, or a file mapped in memory for a lexicon read from a
+ * {@link LexiconSnapshot}. Out of the heap, the garbage collector neither scans nor copies the edges, however many
+ * words the lexicon holds.
+ * <p>
+ * Every node is a run of consecutive edges sorted by letter, and every edge takes {@link #STRIDE} ints: a header
+ * with the letter, flags and the shortest and longest words below the target node, then the offset of the first
+ * edge of the target node, then the mask of the letters needed by every word below the target node. The next
+ * sibling of an edge is the following edge, until the one flagged as last. Nodes are laid out depth first from the
+ * root at offset {@code 0}, so a node is usually close to its first child.
+ * <p>
+ * The search skips a target node when the rack left holds fewer tiles than its shortest word, or when its blanks cannot
+ * make up for the needed letters the rack does not hold. Since the nodes of a suffix can be shared by many words, the
+ * score of a word is summed up letter by letter along the path instead of being stored.
+ * <p>
+ * Packed lexicons are immutable, {@link #addAll(Iterable)} builds a new one.
+ */
+public abstract class PackedLexicon implements Lexicon {
+
+    static final int ALPHABET_SIZE = 26;
+
+    static final int STRIDE = 3;
+
+    static final int LETTER_MASK = 0xFF;
+
+    // the word ending with the letter of the edge is in the lexicon
+    static final int TERMINAL = 1 << 8;
+
+    // the edge is the last one of its node
+    static final int LAST = 1 << 9;
+
+    private static final int MIN_LENGTH_SHIFT = 16;
+
+    private static final int MAX_LENGTH_SHIFT = 24;
+
+    private static final int LENGTH_MASK = 0xFF;
+
+    // the target offset of an edge leading to a node without edges
+    static final int NO_EDGES = -1;
+
+    static final int ROOT = 0;
+
+    private final IntBuffer edges;
+
+    private final int size;
+
+    private final int nodeCount;
+
+    PackedLexicon(Builder builder) {
+        this(builder, false);
+    }
+
+    /**
+     * @param builder the builder of the graph.
+     * @param offHeap whether to copy the packed edges into a direct buffer, out of the Java heap.
+     * @throws IllegalArgumentException if the edges do not fit in a direct buffer.
+     */
+    PackedLexicon(Builder builder, boolean offHeap) {
+        Packer packer = builder.pack();
+        this.edges = offHeap ? offHeap(packer.edges()) : IntBuffer.wrap(packer.edges());
+        this.size = builder.size;
+        this.nodeCount = packer.nodeCount();
+    }
+
+    /**
+     * @param edges the packed edges, for instance mapped from a {@link LexiconSnapshot}.
+     * @param size the number of words.
+     * @param nodeCount the number of nodes with at least one edge.
+     */
+    PackedLexicon(IntBuffer edges, int size, int nodeCount) {
+        this.edges = edges;
+        this.size = size;
+        this.nodeCount = nodeCount;
+    }
+
+    @Override
+    public void findWords(char[] rack, WordCollector collector) {
+        if (edges.limit() == 0) {
+            return;
+        }
+        int[] counts = new int[ALPHABET_SIZE];
+        int available = 0;
+        int blanks = 0;
+        int tiles = 0;
+        for (char c : rack) {
+            if (c == BLANK) {
+                blanks++;
+                tiles++;
+            } else if (c >= 'a' && c <= 'z') {
+                counts[c - 'a']++;
+                available |= 1 << (c - 'a');
+                tiles++;
+            }
+        }
+        search(ROOT, counts, available, blanks, tiles, new char[tiles], 0, 0, collector);
+    }
+
+    @Override
+    public void forEachWord(Consumer<String> consumer) {
+        if (edges.limit() > 0) {
+            forEachWord(ROOT, new char[16], 0, consumer);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of nodes with at least one edge.
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * @return the number of edges.
+     */
+    public int edgeCount() {
+        return edges.limit() / STRIDE;
+    }
+
+    /**
+     * @return whether the packed edges are out of the Java heap, in a direct buffer or in a mapped file.
+     */
+    public boolean isOffHeap() {
+        return edges.isDirect();
+    }
+
+    /**
+     * @return a read-only view of the packed edges, from the first edge of the root.
+     */
+    IntBuffer edges() {
+        return edges.asReadOnlyBuffer();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+            "size=" + size +
+            ", nodeCount=" + nodeCount +
+            ", edgeCount=" + edgeCount() +
+            '}';
+    }
+
+    /**
+     * @return the words of the lexicon and the given words, in order.
+     */
+    static SortedSet<String> union(Lexicon lexicon, Iterable<String> words) {
+        SortedSet<String> sorted = new TreeSet<>();
+        lexicon.forEachWord(sorted::add);
+        words.forEach(sorted::add);
+        return sorted;
+    }
+
+    /**
+     * Copy packed edges into a direct buffer, in the native byte order so reading an int is a single load.
+     */
+    private static IntBuffer offHeap(int[] edges) {
+        if (edges.length > Integer.MAX_VALUE / Integer.BYTES) {
+            throw new IllegalArgumentException("Too many edges for a direct buffer: " + edges.length / STRIDE);
+        }
+        IntBuffer buffer = ByteBuffer.allocateDirect(edges.length * Integer.BYTES)
+            .order(ByteOrder.nativeOrder())
+            .asIntBuffer();
+        buffer.put(edges);
+        buffer.flip();
+        return buffer;
+    }
+
+    private void search(int node, int[] counts, int available, int blanks, int tiles, char[] word, int depth,
+                        int score, WordCollector collector) {
+        for (int edge = node; ; edge += STRIDE) {
+            int header = edges.get(edge);
+            int letter = header & LETTER_MASK;
+            if (counts[letter] > 0) {
+                int left = --counts[letter] == 0 ? available & ~(1 << letter) : available;
+                word[depth] = (char) ('a' + letter);
+                follow(edge, header, counts, left, blanks, tiles, word, depth, score + LetterScores.of(word[depth]),
+                    collector);
+                counts[letter]++;
+            } else if (blanks > 0) {
+                // play a blank as the letter once the rack has run out of it
+                word[depth] = (char) ('A' + letter);
+                follow(edge, header, counts, available, blanks - 1, tiles, word, depth, score, collector);
+            }
+            if ((header & LAST) != 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Collect the word ending with an edge whose letter was just played, and search its target node.
+     */
+    private void follow(int edge, int header, int[] counts, int available, int blanks, int tiles, char[] word,
+                        int depth, int score, WordCollector collector) {
+        if ((header & TERMINAL) != 0) {
+            collector.collect(word, depth + 1, score);
+        }
+        int target = edges.get(edge + 1);
+        if (target != NO_EDGES
+            && ((header >>> MIN_LENGTH_SHIFT) & LENGTH_MASK) < tiles
+            && Integer.bitCount(edges.get(edge + 2) & ~available) <= blanks) {
+            search(target, counts, available, blanks, tiles - 1, word, depth + 1, score, collector);
+        }
+    }
+
+    private void forEachWord(int node, char[] word, int depth, Consumer<String> consumer) {
+        if (depth == word.length) {
+            word = Arrays.copyOf(word, depth * 2);
+        }
+        for (int edge = node; ; edge += STRIDE) {
+            int header = edges.get(edge);
+            word[depth] = (char) ('a' + (header & LETTER_MASK));
+            if ((header & TERMINAL) != 0) {
+                consumer.accept(new String(word, 0, depth + 1));
+            }
+            int target = edges.get(edge + 1);
+            if (target != NO_EDGES) {
+                forEachWord(target, word, depth + 1, consumer);
+            }
+            if ((header & LAST) != 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Builds the word graph of a packed lexicon from words added in strictly increasing order, using the
+     * incremental algorithm for sorted input of Daciuk et al. When minimizing, equivalent states are merged as soon
+     * as no further word can reach them, which turns the trie into a minimal DAWG.
+     */
+    public static class Builder {
+
+        private final boolean minimize;
+
+        private final State root = new State();
+
+        private final Map<State, State> register = new HashMap<>();
+
+        private String previous = "";
+
+        private int size;
+
+        /**
+         * @param minimize whether to merge the states which accept the same suffixes.
+         */
+        public Builder(boolean minimize) {
+            this.minimize = minimize;
+        }
+
+        /**
+         * @param minimize whether to merge the states which accept the same suffixes.
+         * @param words the valid lower-case words, in any order.
+         * @return a builder with all the words added.
+         */
+        static Builder of(boolean minimize, Iterable<String> words) {
+            SortedSet<String> sorted;
+            if (words instanceof SortedSet && ((SortedSet<String>) words).comparator() == null) {
+                sorted = (SortedSet<String>) words;
+            } else {
+                sorted = new TreeSet<>();
+                words.forEach(sorted::add);
+            }
+            Builder builder = new Builder(minimize);
+            sorted.forEach(builder::add);
+            return builder;
+        }
+
+        /**
+         * Add the next word.
+         *
+         * @param word a valid lower-case word greater than the previously added one.
+         * @return this builder.
+         */
+        public Builder add(String word) {
+            if (word.compareTo(previous) <= 0) {
+                throw new IllegalArgumentException("Words must be added in increasing order: " + word + " after " + previous);
+            }
+            int prefix = 0;
+            State state = root;
+            while (prefix < word.length() && state.count > 0
+                && state.labels[state.count - 1] == word.charAt(prefix) - 'a') {
+                state = state.targets[state.count - 1];
+                prefix++;
+            }
+            if (minimize && state.count > 0) {
+                replaceOrRegister(state);
+            }
+            for (int i = prefix; i < word.length(); i++) {
+                State next = new State();
+                state.addEdge((byte) (word.charAt(i) - 'a'), next);
+                state = next;
+            }
+            state.terminal = true;
+            previous = word;
+            size++;
+            return this;
+        }
+
+        /**
+         * @return the packed edges of the graph of the words added, laid out as in a {@link PackedLexicon}.
+         */
+        int[] packEdges() {
+            return pack().edges();
+        }
+
+        private Packer pack() {
+            if (minimize && root.count > 0) {
+                replaceOrRegister(root);
+            }
+            Packer packer = new Packer();
+            packer.pack(root);
+            return packer;
+        }
+
+        /**
+         * Replace the last child of the state by an equivalent registered state, or register it. Its own children
+         * are handled first, so that equivalence only has to compare the direct targets by identity.
+         */
+        private void replaceOrRegister(State state) {
+            State child = state.targets[state.count - 1];
+            if (child.count > 0) {
+                replaceOrRegister(child);
+            }
+            State equivalent = register.putIfAbsent(child, child);
+            if (equivalent != null) {
+                state.targets[state.count - 1] = equivalent;
+            }
+        }
+    }
+
+    /**
+     * Lays out the states in the packed edge array depth first, every state once.
+     */
+    private static class Packer {
+
+        private final Map<State, Integer> offsets = new IdentityHashMap<>();
+
+        private int[] edges = new int[1024];
+
+        private int length;
+
+        int pack(State state) {
+            if (state.count == 0) {
+                return NO_EDGES;
+            }
+            Integer known = offsets.get(state);
+            if (known != null) {
+                return known;
+            }
+            int offset = length;
+            length += state.count * STRIDE;
+            if (length > edges.length) {
+                edges = Arrays.copyOf(edges, Math.max(length, edges.length * 2));
+            }
+            offsets.put(state, offset);
+            int need = ~0;
+            int minLength = Integer.MAX_VALUE;
+            int maxLength = 0;
+            for (int i = 0; i < state.count; i++) {
+                State target = state.targets[i];
+                int targetOffset = pack(target);
+                int header = state.labels[i];
+                if (target.terminal) {
+                    header |= TERMINAL;
+                }
+                if (i == state.count - 1) {
+                    header |= LAST;
+                }
+                header |= Math.min(target.minLength, LENGTH_MASK) << MIN_LENGTH_SHIFT;
+                header |= Math.min(target.maxLength, LENGTH_MASK) << MAX_LENGTH_SHIFT;
+                // the array may have grown while packing the target
+                edges[offset + i * STRIDE] = header;
+                edges[offset + i * STRIDE + 1] = targetOffset;
+                edges[offset + i * STRIDE + 2] = target.need;
+
+                need &= (1 << state.labels[i]) | (target.terminal ? 0 : target.need);
+                minLength = Math.min(minLength, 1 + (target.terminal ? 0 : target.minLength));
+                maxLength = Math.max(maxLength, 1 + target.maxLength);
+            }
+            state.need = need;
+            state.minLength = minLength;
+            state.maxLength = maxLength;
+            return offset;
+        }
+
+        int[] edges() {
+            return Arrays.copyOf(edges, length);
+        }
+
+        int nodeCount() {
+            return offsets.size();
+        }
+    }
+
+    /**
+     * A state of the graph under construction. Once registered it is never modified again, and it is equal to the
+     * states with the same finality and the same edges to the same targets.
+     */
+    private static class State {
+
+        private static final byte[] NO_LABELS = new byte[0];
+
+        private static final State[] NO_TARGETS = new State[0];
+
+        boolean terminal;
+
+        byte[] labels = NO_LABELS;
+
+        State[] targets = NO_TARGETS;
+
+        int count;
+
+        // summaries of the words below the state, computed when it is packed
+        int need;
+
+        int minLength;
+
+        int maxLength;
+
+        void addEdge(byte label, State target) {
+            if (count == labels.length) {
+                int capacity = Math.max(2, count * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+            }
+            labels[count] = label;
+            targets[count] = target;
+            count++;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof State)) {
+                return false;
+            }
+            State other = (State) o;
+            if (terminal != other.terminal || count != other.count) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                if (labels[i] != other.labels[i] || targets[i] != other.targets[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = terminal ? 1 : 0;
+            for (int i = 0; i < count; i++) {
+                hash = 31 * hash + labels[i];
+                hash = 31 * hash + System.identityHashCode(targets[i]);
+            }
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.util.Comparator;
+
+/**
+ * A word found by a search, with its score.
+ */
+public final class ScoredWord {
+
+    /**
+     * Orders words by decreasing score, then alphabetically.
+     */
+    public static final Comparator<ScoredWord> BEST_FIRST =
+        Comparator.comparingInt(ScoredWord::getScore).reversed().thenComparing(ScoredWord::getWord);
+
+    private final String word;
+
+    private final int score;
+
+    public ScoredWord(String word, int score) {
+        this.word = word;
+        this.score = score;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return "ScoredWord{" +
+            "word='" + word + '\'' +
+            ", score=" + score +
+            '}';
+    }
+}
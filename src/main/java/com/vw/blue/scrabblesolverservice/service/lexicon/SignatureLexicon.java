@@ -0,0 +1,327 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Lexicon} backed by a hash index from the letter multiset of a word, its signature, to all the words with
+ * the same letters. A rack is searched by looking up every distinct sub-multiset of its letters, which takes at most
+ * {@code 2^n} lookups for {@code n} tiles, fewer with repeated letters. That is far cheaper than walking a trie for
+ * short racks, and far more expensive for long ones.
+ * <p>
+ * The signature of a multiset is the sum of a random 64-bit key per letter, so it can be updated letter by letter while
+ * enumerating the sub-multisets. The words are grouped by exact letter multiset and a lookup checks the letters of
+ * every group it finds, so colliding signatures never yield wrong words. Each blank of the rack multiplies the lookups
+ * by up to the size of the alphabet, so racks with blanks are better searched in a graph. The lexicon is immutable,
+ * {@link #addAll(Iterable)} builds a new one.
+ */
+public class SignatureLexicon implements Lexicon {
+
+    static final SignatureLexicon EMPTY = of(Collections.emptyList());
+
+    private static final int ALPHABET_SIZE = 26;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final long[] LETTER_KEYS = new long[ALPHABET_SIZE];
+
+    static {
+        for (int i = 0; i < ALPHABET_SIZE; i++) {
+            // spaced like the states of SplitMix64, mixing small consecutive integers gives related keys
+            LETTER_KEYS[i] = mix((i + 1) * GOLDEN_GAMMA);
+        }
+    }
+
+    // the words grouped by letter multiset, with their scores
+    private final char[][] words;
+
+    private final int[] scores;
+
+    // the first word of every group, and the end of the last group
+    private final int[] groupStarts;
+
+    // open addressing table from signature to groups, colliding groups take one slot each
+    private final long[] slotSignatures;
+
+    private final int[] slotGroups;
+
+    private final int longestWord;
+
+    private SignatureLexicon(char[][] words, int[] scores, int[] groupStarts, long[] slotSignatures, int[] slotGroups,
+                             int longestWord) {
+        this.words = words;
+        this.scores = scores;
+        this.groupStarts = groupStarts;
+        this.slotSignatures = slotSignatures;
+        this.slotGroups = slotGroups;
+        this.longestWord = longestWord;
+    }
+
+    /**
+     * Build a lexicon from words in any order.
+     *
+     * @param words the valid lower-case words.
+     * @return the lexicon.
+     */
+    public static SignatureLexicon of(Iterable<String> words) {
+        Map<String, List<String>> groups = new HashMap<>();
+        Set<String> distinct = new HashSet<>();
+        int longestWord = 0;
+        for (String word : words) {
+            if (distinct.add(word)) {
+                char[] letters = word.toCharArray();
+                Arrays.sort(letters);
+                groups.computeIfAbsent(new String(letters), multiset -> new ArrayList<>(1)).add(word);
+                longestWord = Math.max(longestWord, word.length());
+            }
+        }
+
+        char[][] packedWords = new char[distinct.size()][];
+        int[] scores = new int[distinct.size()];
+        int[] groupStarts = new int[groups.size() + 1];
+        int capacity = Integer.highestOneBit(Math.max(1, groups.size()) * 2 - 1) << 1;
+        long[] slotSignatures = new long[capacity];
+        int[] slotGroups = new int[capacity];
+        Arrays.fill(slotGroups, -1);
+
+        int group = 0;
+        int next = 0;
+        for (List<String> groupWords : groups.values()) {
+            groupStarts[group] = next;
+            for (String word : groupWords) {
+                packedWords[next] = word.toCharArray();
+                scores[next] = LetterScores.of(word);
+                next++;
+            }
+            long signature = signature(groupWords.get(0));
+            int slot = slot(signature, capacity - 1);
+            while (slotGroups[slot] != -1) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            slotSignatures[slot] = signature;
+            slotGroups[slot] = group;
+            group++;
+        }
+        groupStarts[group] = next;
+        return new SignatureLexicon(packedWords, scores, groupStarts, slotSignatures, slotGroups, longestWord);
+    }
+
+    @Override
+    public void findWords(char[] rack, WordCollector collector) {
+        if (words.length > 0) {
+            new Search(rack, collector).enumerate(0, 0L, 0);
+        }
+    }
+
+    @Override
+    public Lexicon addAll(Iterable<String> words) {
+        List<String> all = new ArrayList<>(size());
+        forEachWord(all::add);
+        words.forEach(all::add);
+        return of(all);
+    }
+
+    @Override
+    public void forEachWord(Consumer<String> consumer) {
+        for (char[] word : words) {
+            consumer.accept(new String(word));
+        }
+    }
+
+    @Override
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * @return the number of distinct letter multisets.
+     */
+    public int signatureCount() {
+        return groupStarts.length - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "SignatureLexicon{" +
+            "size=" + size() +
+            ", signatureCount=" + signatureCount() +
+            '}';
+    }
+
+    private static long signature(String word) {
+        long signature = 0;
+        for (int i = 0; i < word.length(); i++) {
+            signature += LETTER_KEYS[word.charAt(i) - 'a'];
+        }
+        return signature;
+    }
+
+    private static int slot(long signature, int mask) {
+        long hash = mix(signature);
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * The finalizer of SplitMix64, spreading any difference in the input over all the bits.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * The state of one search, enumerating the sub-multisets of the rack by choosing how many times each of its
+     * distinct letters is taken, then the letters its blanks are played as.
+     */
+    private class Search {
+
+        private final int[] counts = new int[ALPHABET_SIZE];
+
+        private final int[] letters = new int[ALPHABET_SIZE];
+
+        private final int distinct;
+
+        private final int blanks;
+
+        // the counts of the letters taken so far
+        private final int[] chosen = new int[ALPHABET_SIZE];
+
+        // the counts of the letters played as blanks so far
+        private final int[] blanked = new int[ALPHABET_SIZE];
+
+        // scratch counts to check the letters of a word
+        private final int[] seen = new int[ALPHABET_SIZE];
+
+        // the words found with blanks, their letters played as blanks in upper case
+        private final char[] buffer = new char[longestWord];
+
+        private final WordCollector collector;
+
+        Search(char[] rack, WordCollector collector) {
+            int blanks = 0;
+            for (char c : rack) {
+                if (c == BLANK) {
+                    blanks++;
+                } else if (c >= 'a' && c <= 'z') {
+                    counts[c - 'a']++;
+                }
+            }
+            int distinct = 0;
+            for (int i = 0; i < ALPHABET_SIZE; i++) {
+                if (counts[i] > 0) {
+                    letters[distinct++] = i;
+                }
+            }
+            this.distinct = distinct;
+            this.blanks = blanks;
+            this.collector = collector;
+        }
+
+        /**
+         * @param next the index of the next distinct letter to choose.
+         * @param signature the signature of the letters taken so far.
+         * @param size the number of letters taken so far.
+         */
+        void enumerate(int next, long signature, int size) {
+            if (next == distinct) {
+                enumerateBlanks(0, signature, size, blanks, 0);
+                return;
+            }
+            int letter = letters[next];
+            for (int taken = 0; taken <= counts[letter] && size + taken <= longestWord; taken++) {
+                chosen[letter] = taken;
+                enumerate(next + 1, signature + taken * LETTER_KEYS[letter], size + taken);
+            }
+            chosen[letter] = 0;
+        }
+
+        /**
+         * Play the blanks left as letters in non-decreasing order, so that every multiset of them is looked up once.
+         * A blank is only played as a letter when all the tiles of that letter are taken, so every word is found
+         * with one split between its letters from the rack and from blanks.
+         *
+         * @param from the smallest letter the next blank can be played as.
+         * @param signature the signature of the letters taken and played as blanks so far.
+         * @param size the number of letters taken and played as blanks so far.
+         * @param blanksLeft the number of blanks left.
+         * @param blankPoints the points of the letters played as blanks so far.
+         */
+        private void enumerateBlanks(int from, long signature, int size, int blanksLeft, int blankPoints) {
+            if (size > 0) {
+                lookup(signature, size, blankPoints);
+            }
+            if (blanksLeft == 0 || size == longestWord) {
+                return;
+            }
+            for (int letter = from; letter < ALPHABET_SIZE; letter++) {
+                if (chosen[letter] == counts[letter]) {
+                    blanked[letter]++;
+                    enumerateBlanks(letter, signature + LETTER_KEYS[letter], size + 1, blanksLeft - 1,
+                        blankPoints + LetterScores.of((char) ('a' + letter)));
+                    blanked[letter]--;
+                }
+            }
+        }
+
+        /**
+         * Collect the words of the groups with the signature which are made of the chosen and blanked letters.
+         */
+        private void lookup(long signature, int size, int blankPoints) {
+            int mask = slotGroups.length - 1;
+            for (int slot = slot(signature, mask); slotGroups[slot] != -1; slot = (slot + 1) & mask) {
+                if (slotSignatures[slot] == signature) {
+                    collect(slotGroups[slot], size, blankPoints);
+                }
+            }
+        }
+
+        private void collect(int group, int size, int blankPoints) {
+            if (!hasChosenLetters(words[groupStarts[group]], size)) {
+                return;
+            }
+            for (int w = groupStarts[group]; w < groupStarts[group + 1]; w++) {
+                // every letter is worth at least a point, so no points means no blank
+                char[] word = blankPoints == 0 ? words[w] : markBlanks(words[w]);
+                collector.collect(word, size, scores[w] - blankPoints);
+            }
+        }
+
+        /**
+         * @return the buffer holding the word with its last occurrences of the letters played as blanks in upper case.
+         */
+        private char[] markBlanks(char[] word) {
+            for (int i = word.length - 1; i >= 0; i--) {
+                int letter = word[i] - 'a';
+                buffer[i] = seen[letter] < blanked[letter] ? (char) ('A' + letter) : word[i];
+                if (buffer[i] != word[i]) {
+                    seen[letter]++;
+                }
+            }
+            for (char c : word) {
+                seen[c - 'a'] = 0;
+            }
+            return buffer;
+        }
+
+        /**
+         * @return whether the word is made of exactly the chosen and blanked letters, which holds for all the words
+         * of its group.
+         */
+        private boolean hasChosenLetters(char[] word, int size) {
+            if (word.length != size) {
+                return false;
+            }
+            int checked = 0;
+            boolean matches = true;
+            while (checked < word.length && matches) {
+                int letter = word[checked++] - 'a';
+                matches = ++seen[letter] <= chosen[letter] + blanked[letter];
+            }
+            for (int i = 0; i < checked; i++) {
+                seen[word[i] - 'a']--;
+            }
+            return matches;
+        }
+    }
+}
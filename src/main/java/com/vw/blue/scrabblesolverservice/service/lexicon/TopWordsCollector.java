@@ -0,0 +1,88 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * A {@link WordCollector} keeping the best words found, ordered by {@link ScoredWord#BEST_FIRST}, in a heap bounded
+ * by the limit. A word is only copied out of the search buffer when it makes it into the heap.
+ * <p>
+ * The words can be paged through: a collector given the last word of a page keeps the best words ranked after it
+ * only, which make the next page.
+ */
+public class TopWordsCollector implements WordCollector {
+
+    // initial capacity of the heap for large limits, it grows with the words found
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int limit;
+
+    // the word the kept words are ranked after, null to keep the best ones
+    private final ScoredWord after;
+
+    // the worst kept word at its head
+    private final PriorityQueue<ScoredWord> heap;
+
+    /**
+     * @param limit the maximum number of words to keep, positive.
+     */
+    public TopWordsCollector(int limit) {
+        this(limit, null);
+    }
+
+    /**
+     * @param limit the maximum number of words to keep, positive.
+     * @param after the last word of the previous page, only the words ranked after it are kept, null for the first
+     * page.
+     */
+    public TopWordsCollector(int limit, ScoredWord after) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The limit must be positive: " + limit);
+        }
+        this.limit = limit;
+        this.after = after;
+        this.heap = new PriorityQueue<>(Math.min(limit, INITIAL_CAPACITY), ScoredWord.BEST_FIRST.reversed());
+    }
+
+    @Override
+    public void collect(char[] word, int length, int score) {
+        if (after != null && compare(word, length, score, after) <= 0) {
+            return;
+        }
+        if (heap.size() < limit) {
+            heap.add(new ScoredWord(new String(word, 0, length), score));
+        } else if (compare(word, length, score, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(new ScoredWord(new String(word, 0, length), score));
+        }
+    }
+
+    /**
+     * @return the kept words, best first.
+     */
+    public List<ScoredWord> getWords() {
+        List<ScoredWord> words = new ArrayList<>(heap);
+        words.sort(ScoredWord.BEST_FIRST);
+        return words;
+    }
+
+    /**
+     * Compare a word found with a kept one, without copying it out of the search buffer.
+     *
+     * @return a negative number if the word found ranks first, positive if it ranks after, 0 if they are the same.
+     */
+    private static int compare(char[] word, int length, int score, ScoredWord other) {
+        if (score != other.getScore()) {
+            return score > other.getScore() ? -1 : 1;
+        }
+        String otherWord = other.getWord();
+        int common = Math.min(length, otherWord.length());
+        for (int i = 0; i < common; i++) {
+            if (word[i] != otherWord.charAt(i)) {
+                return word[i] - otherWord.charAt(i);
+            }
+        }
+        return length - otherWord.length();
+    }
+}
@@ -0,0 +1,905 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Lexicon} backed by a radix trie of {@link TrieNode}s over the tiles of its {@link Alphabet}, English by
+ * default. Words are inserted in place, or into a new version of the trie, see {@link #withWord(String)}.
+ * <p>
+ * The layout of every node adapts to its children, like in an adaptive radix tree:
+ * <ul>
+ * <li>a chain of nodes with a single child and no word ending in between is compressed into one node, reached by
+ * the whole chain of tiles;</li>
+ * <li>a node with few children holds them in an array sorted by tile, as long as their number;</li>
+ * <li>a node with children for more than half the tiles holds them in an array indexed by tile, which searches
+ * without blanks only visit for the tiles of the rack.</li>
+ * </ul>
+ * See {@link #footprint()} for the memory it takes.
+ * <p>
+ * Words and racks are split into tiles, see {@link Alphabet#tileAt}; a blank played as a tile of several characters
+ * is written upper-case as a whole.
+ * <p>
+ * Every node keeps summaries of the words below it, which the search uses to skip the nodes that no word can be
+ * finished from with the rack left.
+ * <p>
+ * Searches may run while words are inserted: a node is linked to its parent only once it is built, and inserts only
+ * ever relax the summaries, so a concurrent search finds every word inserted before its lexicon was published, and
+ * possibly some of the ones being inserted.
+ */
+public class TrieLexicon implements Lexicon {
+
+    private final Alphabet alphabet;
+
+    private final TrieNode root;
+
+    // the smallest number of words worth building in parallel
+    private static final int PARALLEL_THRESHOLD = 10_000;
+
+    private volatile int size;
+
+    /**
+     * Create an empty trie of English words.
+     */
+    public TrieLexicon() {
+        this(Alphabet.ENGLISH);
+    }
+
+    /**
+     * Create an empty trie.
+     *
+     * @param alphabet the tiles the words are made of.
+     */
+    public TrieLexicon(Alphabet alphabet) {
+        this(alphabet, new TrieNode(TrieNode.NO_TILES), 0);
+    }
+
+    private TrieLexicon(Alphabet alphabet, TrieNode root, int size) {
+        this.alphabet = alphabet;
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Build a trie of English words in parallel on the common fork/join pool, see
+     * {@link #of(Collection, Alphabet, ForkJoinPool)}.
+     *
+     * @param words the valid lower-case words.
+     * @return the trie.
+     */
+    public static TrieLexicon of(Collection<String> words) {
+        return of(words, Alphabet.ENGLISH, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Build a trie in parallel on the common fork/join pool, see {@link #of(Collection, Alphabet, ForkJoinPool)}.
+     *
+     * @param words the lower-case words, made of tiles of the alphabet.
+     * @param alphabet the tiles the words are made of.
+     * @return the trie.
+     */
+    public static TrieLexicon of(Collection<String> words, Alphabet alphabet) {
+        return of(words, alphabet, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Build a trie of English words in parallel, see {@link #of(Collection, Alphabet, ForkJoinPool)}.
+     *
+     * @param words the valid lower-case words.
+     * @param pool the pool building the sub-tries.
+     * @return the trie.
+     */
+    public static TrieLexicon of(Collection<String> words, ForkJoinPool pool) {
+        return of(words, Alphabet.ENGLISH, pool);
+    }
+
+    /**
+     * Build a trie from words in parallel. The words are partitioned by their first tile, the sub-trie of every
+     * tile is built by a task of its own, then the sub-tries are joined under the root. Few words are inserted on
+     * the calling thread.
+     *
+     * @param words the lower-case words, made of tiles of the alphabet.
+     * @param alphabet the tiles the words are made of.
+     * @param pool the pool building the sub-tries.
+     * @return the trie.
+     */
+    public static TrieLexicon of(Collection<String> words, Alphabet alphabet, ForkJoinPool pool) {
+        TrieLexicon trie = new TrieLexicon(alphabet);
+        if (words.size() < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            trie.addAll(words);
+            return trie;
+        }
+        List<List<String>> partitions = new ArrayList<>(alphabet.size());
+        for (int i = 0; i < alphabet.size(); i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (String word : words) {
+            partitions.get(alphabet.tileAt(word, 0)).add(word);
+        }
+        List<Callable<TrieLexicon>> tasks = new ArrayList<>();
+        for (List<String> partition : partitions) {
+            if (!partition.isEmpty()) {
+                tasks.add(() -> {
+                    TrieLexicon subTrie = new TrieLexicon(alphabet);
+                    subTrie.addAll(partition);
+                    return subTrie;
+                });
+            }
+        }
+        int size = 0;
+        for (Future<TrieLexicon> task : pool.invokeAll(tasks)) {
+            TrieLexicon subTrie = join(task);
+            TrieNode subRoot = subTrie.root;
+            for (TrieNode child : subRoot.children) {
+                trie.root.addChild(child, alphabet.size());
+            }
+            trie.root.merge(subRoot);
+            size += subTrie.size;
+        }
+        trie.size = size;
+        return trie;
+    }
+
+    /**
+     * Inserts text into trie. If the text is prefix of trie node, just marks leaf node
+     *
+     * @param text the lower-case text to be inserted, made of tiles of the alphabet
+     * @throws IllegalArgumentException if the text is not made of tiles of the alphabet
+     */
+    public synchronized void insert(String text) {
+        insert(text, false);
+    }
+
+    @Override
+    public synchronized Lexicon addAll(Iterable<String> words) {
+        words.forEach(this::insert);
+        return this;
+    }
+
+    /**
+     * Build a new version of the trie holding a word as well, leaving this one unchanged. The new version shares all
+     * the nodes of this one but the ones on the path of the word, which are copied, so adding a word costs its length
+     * however many words the trie holds. Neither version may be changed in place afterwards.
+     *
+     * @param word the lower-case word, made of tiles of the alphabet.
+     * @return the new version, or this trie if it holds the word already.
+     * @throws IllegalArgumentException if the word is not made of tiles of the alphabet
+     */
+    TrieLexicon withWord(String word) {
+        if (contains(word)) {
+            return this;
+        }
+        TrieLexicon changed = new TrieLexicon(alphabet, root.copy(), size);
+        changed.insert(word, true);
+        return changed;
+    }
+
+    /**
+     * Build a new version of the trie without a word, leaving this one unchanged, see {@link #withWord(String)}. The
+     * nodes left without words below them are kept, with their summaries, which only makes the searches visit them.
+     *
+     * @param word a lower-case word.
+     * @return the new version, or this trie if it does not hold the word.
+     */
+    TrieLexicon withoutWord(String word) {
+        int[] tiles = alphabet.encode(word);
+        if (tiles == null || find(tiles) == null) {
+            return this;
+        }
+        TrieLexicon changed = new TrieLexicon(alphabet, root.copy(), size);
+        TrieNode node = changed.root;
+        for (int level = 0; level < tiles.length; ) {
+            TrieNode child = node.child(tiles[level], alphabet.size()).copy();
+            node.replaceChild(child, alphabet.size());
+            node = child;
+            level += child.tiles.length;
+        }
+        node.leaf = false;
+        changed.size--;
+        return changed;
+    }
+
+    @Override
+    public boolean contains(String word) {
+        int[] tiles = alphabet.encode(word);
+        return tiles != null && find(tiles) != null;
+    }
+
+    /**
+     * Check whether the trie holds a word, written in any case, without allocating any memory.
+     *
+     * @param word buffer holding the characters of the word.
+     * @param length the number of characters of the word.
+     * @return whether the trie holds the lower-case word.
+     */
+    boolean containsIgnoreCase(char[] word, int length) {
+        TrieNode node = root;
+        int played = 0;
+        for (int offset = 0; offset < length; ) {
+            int tile = alphabet.tileAtIgnoreCase(word, offset, length);
+            if (tile < 0) {
+                return false;
+            }
+            if (played == node.tiles.length) {
+                node = node.child(tile, alphabet.size());
+                if (node == null) {
+                    return false;
+                }
+                played = 0;
+            }
+            if (node.tiles[played] != tile) {
+                return false;
+            }
+            played++;
+            offset += alphabet.tile(tile).length();
+        }
+        return played == node.tiles.length && node.leaf;
+    }
+
+    @Override
+    public void findWords(char[] rack, WordCollector collector) {
+        findWords(rack, WordFilter.NONE, collector);
+    }
+
+    /**
+     * Besides checking every word found, the search plays no more tiles than the longest accepted word, starts from
+     * the node of the first letters of the accepted words, and skips the racks scoring less than the smallest score.
+     */
+    @Override
+    public void findWords(char[] rack, WordFilter filter, WordCollector collector) {
+        if (!filter.canMatch(rack)) {
+            return;
+        }
+        // Record the numbers of tile appearances in the rack
+        int[] hash = new int[alphabet.size()];
+        long available = 0;
+        int blanks = 0;
+        int tiles = 0;
+        int points = 0;
+        CharSequence text = CharBuffer.wrap(rack);
+        for (int offset = 0; offset < rack.length; ) {
+            if (rack[offset] == BLANK) {
+                blanks++;
+                tiles++;
+                offset++;
+                continue;
+            }
+            int index = alphabet.tileAt(text, offset);
+            if (index >= 0) {
+                hash[index]++;
+                available |= 1L << index;
+                tiles++;
+                points += alphabet.score(index);
+                offset += alphabet.tile(index).length();
+            } else {
+                offset++;
+            }
+        }
+        if (points < filter.getMinScore()) {
+            return;
+        }
+        char[] word = new char[tiles * alphabet.maxTileLength()];
+        // a tile is at least one letter, so words longer than the filter allows take more tiles than that
+        tiles = Math.min(tiles, filter.getMaxLength());
+        WordCollector filtered = filter.filter(collector);
+        String prefix = filter.getStartsWith();
+        if (prefix.isEmpty() || alphabet.maxTileLength() > 1) {
+            // with tiles of several letters, the first tiles of the words cannot be told from the first letters
+            searchWord(root, hash, available, blanks, tiles, word, 0, 0, filtered);
+            return;
+        }
+        int[] prefixTiles = alphabet.encode(prefix);
+        if (prefixTiles != null) {
+            searchPrefix(prefixTiles, hash, available, blanks, tiles, word, filtered);
+        }
+    }
+
+    @Override
+    public void forEachWord(Consumer<String> consumer) {
+        forEachWord(root, "", consumer);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the tiles the words are made of.
+     */
+    public Alphabet alphabet() {
+        return alphabet;
+    }
+
+    /**
+     * Estimate the memory the trie takes, see {@link Footprint}.
+     *
+     * @return the footprint of the trie.
+     */
+    public Footprint footprint() {
+        Footprint footprint = new Footprint(size, alphabet.size());
+        footprint.add(root);
+        return footprint;
+    }
+
+    TrieNode root() {
+        return root;
+    }
+
+    /* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ Private methods ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+
+    /**
+     * Insert a word, see {@link #insert(String)}
+     *
+     * @param text the lower-case text to be inserted, made of tiles of the alphabet
+     * @param copyPath whether to copy the nodes on the path of the text before changing them, the root being copied
+     * already, see {@link #withWord(String)}
+     */
+    private void insert(String text, boolean copyPath) {
+        int[] tiles = alphabet.encode(text);
+        if (tiles == null) {
+            throw new IllegalArgumentException("Not a word of the " + alphabet + ": " + text);
+        }
+        int length = tiles.length;
+        TrieNode pCrawl = root;
+
+        // tiles of the text from each position to its end
+        long[] suffixMasks = new long[length + 1];
+        for (int level = length - 1; level >= 0; level--) {
+            suffixMasks[level] = suffixMasks[level + 1] | 1L << tiles[level];
+        }
+
+        root.summarize(suffixMasks[0], length);
+        int level = 0;
+        while (level < length) {
+            TrieNode child = pCrawl.child(tiles[level], alphabet.size());
+            if (child == null) {
+                // the rest of the text leads to a new leaf node
+                child = new TrieNode(TrieNode.tiles(tiles, level, length));
+                child.summarize(suffixMasks[level], length - level);
+                child.leaf = true;
+                pCrawl.addChild(child, alphabet.size());
+                size++;
+                return;
+            }
+            int matched = 1;
+            while (matched < child.tiles.length && level + matched < length
+                && child.tiles[matched] == tiles[level + matched]) {
+                matched++;
+            }
+            if (matched < child.tiles.length) {
+                // the text leaves the tiles of the child, or ends among them
+                TrieNode split = child.split(matched);
+                pCrawl.replaceChild(split, alphabet.size());
+                child = split;
+            } else if (copyPath) {
+                // the child is shared with the previous versions of the trie
+                child = child.copy();
+                pCrawl.replaceChild(child, alphabet.size());
+            }
+            child.summarize(suffixMasks[level], length - level);
+            pCrawl = child;
+            level += matched;
+        }
+        // make last node as leaf node
+        if (!pCrawl.leaf) {
+            pCrawl.leaf = true;
+            size++;
+        }
+    }
+
+    /**
+     * @param tiles the tiles of a word
+     * @return the node the word ends at, or null if the trie does not hold it
+     */
+    private TrieNode find(int[] tiles) {
+        TrieNode node = root;
+        int played = 0;
+        for (int tile : tiles) {
+            if (played == node.tiles.length) {
+                node = node.child(tile, alphabet.size());
+                if (node == null) {
+                    return null;
+                }
+                played = 0;
+            }
+            if (node.tiles[played] != tile) {
+                return null;
+            }
+            played++;
+        }
+        return played == node.tiles.length && node.leaf ? node : null;
+    }
+
+    /**
+     * Find the words below a node
+     *
+     * @param node Trie node
+     * @param hash the numbers of appearances of the tiles left
+     * @param available mask of the tiles left in hash
+     * @param blanks number of blanks left
+     * @param tiles number of tiles and blanks left
+     * @param word buffer holding the characters of the tiles leading to the node
+     * @param depth number of characters leading to the node
+     * @param points points of the tiles of the rack leading to the node, blanks score none
+     * @param collector receives the words found
+     */
+    private void searchWord(TrieNode node, int[] hash, long available, int blanks, int tiles, char[] word, int depth,
+                            int points, WordCollector collector) {
+        // if we found word in trie / dictionary
+        if (node.leaf) {
+            collector.collect(word, depth, points);
+        }
+
+        TrieNode[] children = node.children;
+        if (blanks == 0 && children.length == alphabet.size()) {
+            // only visit the children of the tiles of the rack
+            for (long left = available; left != 0; left &= left - 1) {
+                TrieNode child = children[Long.numberOfTrailingZeros(left)];
+                if (child != null) {
+                    searchTiles(child, 0, hash, available, blanks, tiles, word, depth, points, collector);
+                }
+            }
+            return;
+        }
+        // traverse all child's of current node
+        for (TrieNode child : children) {
+            if (child != null && (blanks > 0 || hash[child.tiles[0]] > 0)) {
+                searchTiles(child, 0, hash, available, blanks, tiles, word, depth, points, collector);
+            }
+        }
+    }
+
+    /**
+     * Play the first tiles of the words, then find the words below the node they lead to
+     *
+     * @param prefix the first tiles of the words
+     * @see #searchWord
+     */
+    private void searchPrefix(int[] prefix, int[] hash, long available, int blanks, int tiles, char[] word,
+                              WordCollector collector) {
+        TrieNode node = root;
+        int played = 0;
+        int depth = 0;
+        int points = 0;
+        for (int i : prefix) {
+            if (played == node.tiles.length) {
+                node = node.child(i, alphabet.size());
+                played = 0;
+                if (node == null || node.minLength > tiles || Long.bitCount(node.need & ~available) > blanks) {
+                    return;
+                }
+            }
+            if (node.tiles[played] != i || tiles == 0) {
+                return;
+            }
+            if (hash[i] > 0) {
+                depth = alphabet.write(i, false, word, depth);
+                if (--hash[i] == 0) {
+                    available &= ~(1L << i);
+                }
+                points += alphabet.score(i);
+            } else if (blanks > 0) {
+                depth = alphabet.write(i, true, word, depth);
+                blanks--;
+            } else {
+                return;
+            }
+            played++;
+            tiles--;
+        }
+        // the words through the node are at least minLength - played tiles longer
+        if (node.minLength - played <= tiles) {
+            searchTiles(node, played, hash, available, blanks, tiles, word, depth, points, collector);
+        }
+    }
+
+    /**
+     * Play the tiles leading to a node, then find the words below it
+     *
+     * @param node Trie node
+     * @param played number of the tiles leading to the node already played
+     * @see #searchWord
+     */
+    private void searchTiles(TrieNode node, int played, int[] hash, long available, int blanks, int tiles,
+                             char[] word, int depth, int points, WordCollector collector) {
+        // skip the node when no word through it can be finished with the tiles and blanks left
+        if (played == 0 && (node.minLength > tiles || Long.bitCount(node.need & ~available) > blanks)) {
+            return;
+        }
+        if (played == node.tiles.length) {
+            searchWord(node, hash, available, blanks, tiles, word, depth, points, collector);
+            return;
+        }
+        int i = node.tiles[played];
+        if (hash[i] > 0) {
+            // add current tile
+            int next = alphabet.write(i, false, word, depth);
+            hash[i]--;
+            // Recursively search remaining tiles of word in trie
+            searchTiles(node, played + 1, hash, hash[i] == 0 ? available & ~(1L << i) : available, blanks,
+                tiles - 1, word, next, points + alphabet.score(i), collector);
+            hash[i]++;
+        } else if (blanks > 0) {
+            // play a blank as the tile once the rack has run out of it
+            int next = alphabet.write(i, true, word, depth);
+            searchTiles(node, played + 1, hash, available, blanks - 1, tiles - 1, word, next, points, collector);
+        }
+    }
+
+    private static TrieLexicon join(Future<TrieLexicon> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building the trie", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to build the trie", e.getCause());
+        }
+    }
+
+    private void forEachWord(TrieNode node, String prefix, Consumer<String> consumer) {
+        if (node.leaf) {
+            consumer.accept(prefix);
+        }
+        for (TrieNode child : node.children) {
+            if (child != null) {
+                StringBuilder word = new StringBuilder(prefix);
+                for (byte tile : child.tiles) {
+                    word.append(alphabet.tile(tile));
+                }
+                forEachWord(child, word.toString(), consumer);
+            }
+        }
+    }
+
+    /**
+     * An estimate of the memory taken by a trie, on a 64-bit JVM with compressed references, compared with a trie of
+     * one node per tile, each with an array of a child slot per tile of the alphabet.
+     */
+    public static final class Footprint {
+
+        private static final int OBJECT_HEADER = 12;
+
+        private static final int ARRAY_HEADER = 16;
+
+        private static final int REFERENCE = 4;
+
+        // header, need, minLength, children, tiles and leaf
+        private static final int NODE = align(OBJECT_HEADER + 8 + 2 + REFERENCE + REFERENCE + 1);
+
+        // header, children, leaf, score, need, minLength and maxLength
+        private static final int UNCOMPRESSED_NODE = align(OBJECT_HEADER + REFERENCE + 1 + 4 * 4);
+
+        private final int words;
+
+        private final int alphabetSize;
+
+        private int nodes;
+
+        private int compressedNodes;
+
+        private int fullNodes;
+
+        private int tileNodes = 1;
+
+        private long bytes;
+
+        private Footprint(int words, int alphabetSize) {
+            this.words = words;
+            this.alphabetSize = alphabetSize;
+        }
+
+        /**
+         * @return the number of nodes.
+         */
+        public int getNodes() {
+            return nodes;
+        }
+
+        /**
+         * @return the number of nodes reached by several tiles.
+         */
+        public int getCompressedNodes() {
+            return compressedNodes;
+        }
+
+        /**
+         * @return the number of nodes holding their children in an array indexed by tile.
+         */
+        public int getFullNodes() {
+            return fullNodes;
+        }
+
+        /**
+         * @return the estimated number of bytes of the trie.
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return the number of nodes of a trie of one node per tile.
+         */
+        public int getUncompressedNodes() {
+            return tileNodes;
+        }
+
+        /**
+         * @return the estimated number of bytes of a trie of one node per tile, each with an array of a child slot
+         * per tile of the alphabet.
+         */
+        public long getUncompressedBytes() {
+            return (long) tileNodes * (UNCOMPRESSED_NODE + align(ARRAY_HEADER + REFERENCE * alphabetSize));
+        }
+
+        /**
+         * @return the estimated number of bytes per word, or 0 without words.
+         */
+        public double getBytesPerWord() {
+            return words == 0 ? 0 : (double) bytes / words;
+        }
+
+        /**
+         * @return the estimated number of bytes per word of a trie of one node per tile, or 0 without words.
+         */
+        public double getUncompressedBytesPerWord() {
+            return words == 0 ? 0 : (double) getUncompressedBytes() / words;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Footprint{words=%d, nodes=%d (%d compressed, %d full), bytes=%d (%.1f per word), "
+                    + "uncompressed nodes=%d, uncompressed bytes=%d (%.1f per word)}", words, nodes, compressedNodes,
+                fullNodes, bytes, getBytesPerWord(), tileNodes, getUncompressedBytes(), getUncompressedBytesPerWord());
+        }
+
+        private void add(TrieNode node) {
+            nodes++;
+            bytes += NODE;
+            if (node.tiles.length > 1) {
+                compressedNodes++;
+                bytes += align(ARRAY_HEADER + node.tiles.length);
+            }
+            tileNodes += node.tiles.length;
+            if (node.children.length > 0) {
+                bytes += align(ARRAY_HEADER + REFERENCE * node.children.length);
+                if (node.children.length == alphabetSize) {
+                    fullNodes++;
+                }
+            }
+            for (TrieNode child : node.children) {
+                if (child != null) {
+                    add(child);
+                }
+            }
+        }
+
+        private static int align(int bytes) {
+            return (bytes + 7) & ~7;
+        }
+    }
+}
+
+class TrieNode{
+
+    static final byte[] NO_TILES = new byte[0];
+
+    private static final TrieNode[] NO_CHILDREN = new TrieNode[0];
+
+    // the arrays of a single tile, shared by all the nodes reached by a single tile
+    private static final byte[][] SINGLE_TILES = new byte[Alphabet.MAX_SIZE][];
+
+    static {
+        for (int i = 0; i < SINGLE_TILES.length; i++) {
+            SINGLE_TILES[i] = new byte[]{(byte) i};
+        }
+    }
+
+    // indexes of the tiles leading from the parent to the node, at least one but for the root
+    final byte[] tiles;
+
+    // the children, either sorted by tile and as many as they are, or indexed by tile, with nulls, when there are
+    // children for more than half the tiles. The array is replaced by a larger copy on insert, so a search sees either
+    // all the old children or all the new ones.
+    TrieNode[] children = NO_CHILDREN;
+
+    // isLeaf is true if the node represents end of a word
+    boolean leaf;
+
+    // tiles needed by every word through the node, from the first tile leading to it
+    long need;
+
+    // shortest length of the words through the node, in tiles from the first one leading to it, 0 when there is none
+    short minLength;
+
+    TrieNode(byte[] tiles) {
+        this.tiles = tiles;
+    }
+
+    /**
+     * @param tiles the indexes of the tiles of a word.
+     * @param from the index of the first tile.
+     * @param to the index after the last tile.
+     * @return the tiles between the indexes, shared when there is one.
+     */
+    static byte[] tiles(int[] tiles, int from, int to) {
+        if (to - from == 1) {
+            return SINGLE_TILES[tiles[from]];
+        }
+        byte[] result = new byte[to - from];
+        for (int i = from; i < to; i++) {
+            result[i - from] = (byte) tiles[i];
+        }
+        return result;
+    }
+
+    /**
+     * @param tile the index of a tile.
+     * @param alphabetSize the number of tiles of the alphabet.
+     * @return the child the tile leads to, or null.
+     */
+    TrieNode child(int tile, int alphabetSize) {
+        TrieNode[] children = this.children;
+        if (children.length == alphabetSize) {
+            return children[tile];
+        }
+        int position = position(children, tile);
+        return position < children.length && children[position].tiles[0] == tile ? children[position] : null;
+    }
+
+    /**
+     * @param child a child of a tile the node has no child for.
+     * @param alphabetSize the number of tiles of the alphabet.
+     */
+    void addChild(TrieNode child, int alphabetSize) {
+        TrieNode[] children = this.children;
+        int tile = child.tiles[0];
+        if (children.length == alphabetSize) {
+            children[tile] = child;
+            return;
+        }
+        TrieNode[] added;
+        if ((children.length + 1) * 2 > alphabetSize) {
+            added = new TrieNode[alphabetSize];
+            for (TrieNode sibling : children) {
+                added[sibling.tiles[0]] = sibling;
+            }
+            added[tile] = child;
+        } else {
+            int position = position(children, tile);
+            added = new TrieNode[children.length + 1];
+            System.arraycopy(children, 0, added, 0, position);
+            added[position] = child;
+            System.arraycopy(children, position, added, position + 1, children.length - position);
+        }
+        this.children = added;
+    }
+
+    /**
+     * @param child a child replacing the one of the same first tile.
+     * @param alphabetSize the number of tiles of the alphabet.
+     */
+    void replaceChild(TrieNode child, int alphabetSize) {
+        int tile = child.tiles[0];
+        children[children.length == alphabetSize ? tile : position(children, tile)] = child;
+    }
+
+    /**
+     * @return a node with the same tiles, word and summaries, and a copy of the children, so either can be changed
+     * without changing the other.
+     */
+    TrieNode copy() {
+        TrieNode copy = new TrieNode(tiles);
+        copy.children = children.length == 0 ? children : children.clone();
+        copy.leaf = leaf;
+        copy.need = need;
+        copy.minLength = minLength;
+        return copy;
+    }
+
+    /**
+     * Split the node after some of the tiles leading to it. The node is left unchanged, so the searches running
+     * through it are not disturbed.
+     *
+     * @param length the number of tiles before the split, less than the number of tiles leading to the node.
+     * @return a new node reached by the tiles before the split, with a copy of the node reached by the tiles after
+     * it as single child.
+     */
+    TrieNode split(int length) {
+        TrieNode tail = new TrieNode(length == tiles.length - 1 ? SINGLE_TILES[tiles[length]]
+            : Arrays.copyOfRange(tiles, length, tiles.length));
+        TrieNode head = new TrieNode(length == 1 ? SINGLE_TILES[tiles[0]] : Arrays.copyOf(tiles, length));
+        long headMask = 0;
+        for (byte tile : head.tiles) {
+            headMask |= 1L << tile;
+        }
+        long tailMask = 0;
+        for (byte tile : tail.tiles) {
+            tailMask |= 1L << tile;
+        }
+        // the words through both are the ones through the node, and the tail may need some of the tiles of the head
+        // again, which are left out of its needs
+        tail.children = children;
+        tail.leaf = leaf;
+        tail.need = need & ~headMask | tailMask;
+        tail.minLength = (short) (minLength - length);
+        head.need = need;
+        head.minLength = minLength;
+        head.children = new TrieNode[]{tail};
+        return head;
+    }
+
+    /**
+     * Account for a word through the node.
+     *
+     * @param mask the tiles of the word from the first tile leading to the node.
+     * @param length the number of tiles of the word from the first tile leading to the node.
+     */
+    void summarize(long mask, int length) {
+        if (minLength == 0) {
+            need = mask;
+            minLength = (short) length;
+        } else {
+            need &= mask;
+            minLength = (short) Math.min(minLength, length);
+        }
+    }
+
+    /**
+     * Account for the words through another node.
+     *
+     * @param other a node with the same tiles leading to it.
+     */
+    void merge(TrieNode other) {
+        if (other.minLength == 0) {
+            return;
+        }
+        if (minLength == 0) {
+            need = other.need;
+            minLength = other.minLength;
+        } else {
+            need &= other.need;
+            minLength = (short) Math.min(minLength, other.minLength);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TrieNode{" +
+            "tiles=" + Arrays.toString(tiles) +
+            ", children=" + Arrays.toString(children) +
+            ", leaf=" + leaf +
+            ", need=" + Long.toBinaryString(need) +
+            ", minLength=" + minLength +
+            '}';
+    }
+
+    /**
+     * @return the position of the child of the tile in sorted children, or of the first child of a larger tile.
+     */
+    private static int position(TrieNode[] children, int tile) {
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int found = children[middle].tiles[0];
+            if (found < tile) {
+                low = middle + 1;
+            } else if (found > tile) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return low;
+    }
+}
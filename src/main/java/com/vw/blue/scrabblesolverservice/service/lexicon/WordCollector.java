@@ -0,0 +1,21 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+/**
+ * Receives the words found by a {@link Lexicon} search.
+ * <p>
+ * The search reuses one buffer for all the words it finds, so the collector must copy what it keeps. Searching
+ * itself allocates nothing per word, what a query allocates is up to its collector.
+ */
+@FunctionalInterface
+public interface WordCollector {
+
+    /**
+     * Collect a word.
+     *
+     * @param word the buffer holding the word, with the letters played as blanks in upper case, only valid during
+     * the call.
+     * @param length the number of letters of the word in the buffer.
+     * @param score the score of the word, without the letters played as blanks.
+     */
+    void collect(char[] word, int length, int score);
+}
@@ -0,0 +1,288 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The conditions the words found by a {@link Lexicon} search must meet: their length, letters they contain, start or
+ * end with, and their smallest score. Letters are compared whatever their case, so a letter played as a blank
+ * counts as well.
+ * <p>
+ * A lexicon applies the filter while it walks its words, before they are collected: see
+ * {@link Lexicon#findWords(char[], WordFilter, WordCollector)}. Filters are immutable, see {@link Builder}.
+ */
+public final class WordFilter {
+
+    /**
+     * The filter accepting every word.
+     */
+    public static final WordFilter NONE = new Builder().build();
+
+    private final int minLength;
+
+    private final int maxLength;
+
+    // the required letters, sorted, a letter repeated as many times as it is required
+    private final char[] letters;
+
+    private final char[] startsWith;
+
+    private final char[] endsWith;
+
+    private final int minScore;
+
+    private WordFilter(Builder builder) {
+        this.minLength = builder.minLength;
+        this.maxLength = builder.maxLength;
+        this.letters = builder.letters;
+        this.startsWith = builder.startsWith;
+        this.endsWith = builder.endsWith;
+        this.minScore = builder.minScore;
+    }
+
+    /**
+     * @return the smallest number of letters of a word.
+     */
+    public int getMinLength() {
+        return minLength;
+    }
+
+    /**
+     * @return the largest number of letters of a word.
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * @return the lower-case letters a word contains, as many times as they appear, in alphabetical order.
+     */
+    public String getLetters() {
+        return new String(letters);
+    }
+
+    /**
+     * @return the lower-case letters a word starts with, empty for any.
+     */
+    public String getStartsWith() {
+        return new String(startsWith);
+    }
+
+    /**
+     * @return the lower-case letters a word ends with, empty for any.
+     */
+    public String getEndsWith() {
+        return new String(endsWith);
+    }
+
+    /**
+     * @return the smallest score of a word.
+     */
+    public int getMinScore() {
+        return minScore;
+    }
+
+    /**
+     * @return whether the filter accepts every word.
+     */
+    public boolean isNone() {
+        return minLength == 0 && maxLength == Integer.MAX_VALUE && letters.length == 0 && startsWith.length == 0
+            && endsWith.length == 0 && minScore == Integer.MIN_VALUE;
+    }
+
+    /**
+     * Check whether a rack can make any accepted word at all: it must hold the required letters, the first and the
+     * last ones, blanks standing in for the missing ones.
+     *
+     * @param rack the lower-case letters and blanks of the rack.
+     * @return false if no word of the rack can be accepted.
+     */
+    public boolean canMatch(char[] rack) {
+        return minLength <= maxLength && holds(rack, letters) && holds(rack, startsWith) && holds(rack, endsWith);
+    }
+
+    /**
+     * Check whether a word found is accepted.
+     *
+     * @param word the buffer holding the word, with the letters played as blanks in upper case.
+     * @param length the number of letters of the word in the buffer.
+     * @param score the score of the word.
+     * @return whether the word meets every condition of the filter.
+     */
+    public boolean accepts(char[] word, int length, int score) {
+        if (length < minLength || length > maxLength || score < minScore
+            || length < startsWith.length || length < endsWith.length) {
+            return false;
+        }
+        for (int i = 0; i < startsWith.length; i++) {
+            if (Character.toLowerCase(word[i]) != startsWith[i]) {
+                return false;
+            }
+        }
+        for (int i = 0, offset = length - endsWith.length; i < endsWith.length; i++) {
+            if (Character.toLowerCase(word[offset + i]) != endsWith[i]) {
+                return false;
+            }
+        }
+        for (int i = 0; i < letters.length; ) {
+            char letter = letters[i];
+            int required = 0;
+            for (; i < letters.length && letters[i] == letter; i++) {
+                required++;
+            }
+            for (int j = 0; j < length && required > 0; j++) {
+                if (Character.toLowerCase(word[j]) == letter) {
+                    required--;
+                }
+            }
+            if (required > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param collector a collector.
+     * @return a collector passing the accepted words only to the given one.
+     */
+    public WordCollector filter(WordCollector collector) {
+        if (isNone()) {
+            return collector;
+        }
+        return (word, length, score) -> {
+            if (accepts(word, length, score)) {
+                collector.collect(word, length, score);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "WordFilter{" +
+            "minLength=" + minLength +
+            ", maxLength=" + maxLength +
+            ", letters='" + getLetters() + '\'' +
+            ", startsWith='" + getStartsWith() + '\'' +
+            ", endsWith='" + getEndsWith() + '\'' +
+            ", minScore=" + minScore +
+            '}';
+    }
+
+    /**
+     * @return whether the rack holds the letters, blanks standing in for the missing ones.
+     */
+    private static boolean holds(char[] rack, char[] letters) {
+        if (letters.length == 0) {
+            return true;
+        }
+        boolean[] used = new boolean[rack.length];
+        int blanks = 0;
+        for (char c : rack) {
+            if (c == Lexicon.BLANK) {
+                blanks++;
+            }
+        }
+        for (char letter : letters) {
+            int i = 0;
+            while (i < rack.length && (used[i] || rack[i] != letter)) {
+                i++;
+            }
+            if (i < rack.length) {
+                used[i] = true;
+            } else if (blanks > 0) {
+                blanks--;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds a {@link WordFilter}, accepting every word until conditions are set.
+     */
+    public static class Builder {
+
+        private static final char[] NO_LETTERS = new char[0];
+
+        private int minLength;
+
+        private int maxLength = Integer.MAX_VALUE;
+
+        private char[] letters = NO_LETTERS;
+
+        private char[] startsWith = NO_LETTERS;
+
+        private char[] endsWith = NO_LETTERS;
+
+        private int minScore = Integer.MIN_VALUE;
+
+        /**
+         * @param minLength the smallest number of letters of a word.
+         * @return this builder.
+         */
+        public Builder minLength(int minLength) {
+            this.minLength = minLength;
+            return this;
+        }
+
+        /**
+         * @param maxLength the largest number of letters of a word.
+         * @return this builder.
+         */
+        public Builder maxLength(int maxLength) {
+            this.maxLength = maxLength;
+            return this;
+        }
+
+        /**
+         * @param letters the letters a word contains, as many times as they are given, in any order and case, null
+         * for any.
+         * @return this builder.
+         */
+        public Builder letters(String letters) {
+            this.letters = lowerCase(letters);
+            Arrays.sort(this.letters);
+            return this;
+        }
+
+        /**
+         * @param startsWith the letters a word starts with, in any case, null for any.
+         * @return this builder.
+         */
+        public Builder startsWith(String startsWith) {
+            this.startsWith = lowerCase(startsWith);
+            return this;
+        }
+
+        /**
+         * @param endsWith the letters a word ends with, in any case, null for any.
+         * @return this builder.
+         */
+        public Builder endsWith(String endsWith) {
+            this.endsWith = lowerCase(endsWith);
+            return this;
+        }
+
+        /**
+         * @param minScore the smallest score of a word.
+         * @return this builder.
+         */
+        public Builder minScore(int minScore) {
+            this.minScore = minScore;
+            return this;
+        }
+
+        /**
+         * @return the filter.
+         */
+        public WordFilter build() {
+            return new WordFilter(this);
+        }
+
+        private static char[] lowerCase(String letters) {
+            return letters == null ? NO_LETTERS : letters.toLowerCase(Locale.ROOT).toCharArray();
+        }
+    }
+}
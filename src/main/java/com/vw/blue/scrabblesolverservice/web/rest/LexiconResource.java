@@ -0,0 +1,79 @@
+package com.vw.blue.scrabblesolverservice.web.rest;
+
+import com.vw.blue.scrabblesolverservice.config.AsyncConfiguration;
+import com.vw.blue.scrabblesolverservice.service.LexiconRegistry;
+import com.vw.blue.scrabblesolverservice.service.dto.LexiconDTO;
+import com.vw.blue.scrabblesolverservice.web.rest.errors.BadRequestAlertException;
+
+import io.github.jhipster.web.util.ResponseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * REST controller searching the named lexicons.
+ */
+@RestController
+@RequestMapping("/api")
+public class LexiconResource {
+
+    private final Logger log = LoggerFactory.getLogger(LexiconResource.class);
+
+    private static final String ENTITY_NAME = "lexicon";
+
+    private final LexiconRegistry lexiconRegistry;
+
+    private final Executor searchExecutor;
+
+    public LexiconResource(LexiconRegistry lexiconRegistry,
+                           @Qualifier(AsyncConfiguration.SEARCH_EXECUTOR) Executor searchExecutor) {
+        this.lexiconRegistry = lexiconRegistry;
+        this.searchExecutor = searchExecutor;
+    }
+
+    /**
+     * {@code GET  /lexicons} : get all the lexicons.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of lexicons in body.
+     */
+    @GetMapping("/lexicons")
+    public List<LexiconDTO> getAllLexicons() {
+        log.debug("REST request to get all Lexicons");
+        return lexiconRegistry.getLexicons();
+    }
+
+    /**
+     * {@code GET  /lexicons/:name/words/search/:string} : get all possible words of the "name" lexicon with only
+     * characters in the "word", see {@link WordResource#searchAllWordsWithThoseCharacters}. The lexicon is loaded on
+     * its first search.
+     *
+     * @param name the name of the lexicon.
+     * @param str the word to retrieve.
+     * @param limit the maximum number of words to return, all of them if absent.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of words in body, best scores first,
+     * with status {@code 400 (Bad Request)} if the limit is not positive, with status {@code 404 (Not Found)} if
+     * there is no lexicon of that name, or with status {@code 503 (Service Unavailable)} if too many searches are
+     * waiting.
+     */
+    @GetMapping("/lexicons/{name}/words/search/{str}")
+    public CompletableFuture<ResponseEntity<List<String>>> searchAllWordsWithThoseCharacters(@PathVariable String name,
+                                                                         @PathVariable String str,
+                                                                         @RequestParam(required = false) Integer limit) {
+        log.debug("REST request to get Words of {} for : {}, limit {}", name, str, limit);
+        if (limit != null && limit <= 0) {
+            throw new BadRequestAlertException("The limit must be positive", ENTITY_NAME, "limitnotpositive");
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            Optional<List<String>> words = lexiconRegistry.findWords(name, str,
+                limit == null ? Integer.MAX_VALUE : limit);
+            return ResponseUtil.wrapOrNotFound(words);
+        }, searchExecutor);
+    }
+}
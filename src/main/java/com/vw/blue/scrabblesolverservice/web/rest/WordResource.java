@@ -1,31 +1,59 @@
 package com.vw.blue.scrabblesolverservice.web.rest;
 
+import com.vw.blue.scrabblesolverservice.config.AsyncConfiguration;
 import com.vw.blue.scrabblesolverservice.domain.Word;
+import com.vw.blue.scrabblesolverservice.service.WordBatchService;
 import com.vw.blue.scrabblesolverservice.service.WordService;
+import com.vw.blue.scrabblesolverservice.service.dto.RackSearchDTO;
+import com.vw.blue.scrabblesolverservice.service.lexicon.Board;
+import com.vw.blue.scrabblesolverservice.service.lexicon.BoardMove;
+import com.vw.blue.scrabblesolverservice.service.lexicon.ScoredWord;
+import com.vw.blue.scrabblesolverservice.service.lexicon.WordFilter;
 import com.vw.blue.scrabblesolverservice.web.rest.errors.BadRequestAlertException;
+import com.vw.blue.scrabblesolverservice.web.rest.vm.BoardVM;
+import com.vw.blue.scrabblesolverservice.web.rest.vm.WordBatchVM;
+import com.vw.blue.scrabblesolverservice.web.rest.vm.WordSearchVM;
 
 import io.github.jhipster.web.util.HeaderUtil;
 import io.github.jhipster.web.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * REST controller for managing {@link com.vw.blue.scrabblesolverservice.domain.Word}.
+ * <p>
+ * The searches run on the {@link AsyncConfiguration#SEARCH_EXECUTOR search executor}, which frees the request thread
+ * while searching, and answers {@code 503 (Service Unavailable)} right away when too many searches are waiting. The
+ * streamed searches run there too, as asynchronous tasks writing the words while they are found.
  */
 @RestController
 @RequestMapping("/api")
@@ -35,13 +63,25 @@ public class WordResource {
 
     private static final String ENTITY_NAME = "word";
 
+    /**
+     * Newline delimited JSON, one JSON value per line.
+     */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final WordService wordService;
 
-    public WordResource(WordService wordService) {
+    private final WordBatchService wordBatchService;
+
+    private final AsyncTaskExecutor searchExecutor;
+
+    public WordResource(WordService wordService, WordBatchService wordBatchService,
+                        @Qualifier(AsyncConfiguration.SEARCH_EXECUTOR) AsyncTaskExecutor searchExecutor) {
         this.wordService = wordService;
+        this.wordBatchService = wordBatchService;
+        this.searchExecutor = searchExecutor;
     }
 
     /**
@@ -124,17 +164,168 @@ public class WordResource {
         return ResponseEntity.noContent().headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString())).build();
     }
     /**
-     * {@code GET  /words/search/:string} : get all possible words with only characters in the "word".
+     * {@code GET  /words/search/:string} : get all possible words with only characters in the "word". Every
+     * {@code ?} blank, encoded as {@code %3F}, stands for any character and is upper case in the words found.
+     * <p>
+     * The words can be filtered by length, letters they contain, start or end with and score, the filter is applied
+     * while searching. With a limit, the words are paged through: a full page links to the next one, whose cursor
+     * resumes after its last word.
      *
      * @param str the word to retrieve .
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of words in body.
+     * @param limit the maximum number of words to return, all of them if absent.
+     * @param search the conditions of the words and the cursor of the page, all optional.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of words in body, best scores first,
+     * with a {@code Link} header to the next page when the page is full, or with status {@code 400 (Bad Request)} if
+     * the limit is not positive, a condition or the cursor is not valid, or with status
+     * {@code 503 (Service Unavailable)} if too many searches are waiting.
      */
     @GetMapping("/words/search/{str}")
-    public ResponseEntity<List<String>> searchAllWordsWithThoseCharacters(@PathVariable String str) {
-        log.debug("REST request to get Words for : {}", str);
-        List<String> l = wordService.findWordsOnTrie(str);
-        return ResponseEntity.ok()
-            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, ""))
-            .body(l);
+    public CompletableFuture<ResponseEntity<List<String>>> searchAllWordsWithThoseCharacters(@PathVariable String str,
+                                                                         @RequestParam(required = false) Integer limit,
+                                                                         @Valid WordSearchVM search) {
+        log.debug("REST request to get Words for : {}, limit {}, {}", str, limit, search);
+        if (limit != null && limit <= 0) {
+            throw new BadRequestAlertException("The limit must be positive", ENTITY_NAME, "limitnotpositive");
+        }
+        WordFilter filter = search.toFilter();
+        if (filter.getMinLength() > filter.getMaxLength()) {
+            throw new BadRequestAlertException("The minimum length is above the maximum one", ENTITY_NAME,
+                "lengthrangeinvalid");
+        }
+        ScoredWord after = search.getCursor() == null ? null : decodeCursor(search.getCursor());
+        // the current request is only known on the request thread
+        UriComponentsBuilder current = ServletUriComponentsBuilder.fromCurrentRequest();
+        return CompletableFuture.supplyAsync(() -> {
+            List<ScoredWord> words = wordService.findScoredWordsOnTrie(str, filter, after,
+                limit == null ? Integer.MAX_VALUE : limit);
+            HttpHeaders headers = HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, "");
+            if (limit != null && words.size() == limit) {
+                // the request URI is already encoded, and the cursor needs no encoding
+                String next = current
+                    .replaceQueryParam("cursor", encodeCursor(words.get(words.size() - 1)))
+                    .build(true)
+                    .toUriString();
+                headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+            }
+            return ResponseEntity.ok()
+                .headers(headers)
+                .body(words.stream().map(ScoredWord::getWord).collect(Collectors.toList()));
+        }, searchExecutor);
+    }
+
+    /**
+     * {@code POST  /words/search:batch} : get all possible words of many racks at once, see
+     * {@link #searchAllWordsWithThoseCharacters}. The racks are searched in parallel, and the anagrams of a rack
+     * searched once.
+     *
+     * @param wordBatchVM the racks.
+     * @param limit the maximum number of words to return per rack, all of them if absent.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the words of every rack in body, in the
+     * order of the racks, with the time their search took, or with status {@code 400 (Bad Request)} if a rack or the
+     * limit is not valid, or there are no or too many racks, or with status {@code 503 (Service Unavailable)} if too
+     * many searches are waiting.
+     */
+    @PostMapping("/words/search:batch")
+    public CompletableFuture<ResponseEntity<List<RackSearchDTO>>> searchBatch(@Valid @RequestBody WordBatchVM wordBatchVM,
+                                                           @RequestParam(required = false) Integer limit) {
+        log.debug("REST request to get Words for a batch of {} racks, limit {}", wordBatchVM.getRacks().size(), limit);
+        if (limit != null && limit <= 0) {
+            throw new BadRequestAlertException("The limit must be positive", ENTITY_NAME, "limitnotpositive");
+        }
+        // searched on the batch executor, rather than holding a thread of the search executor while waiting
+        return wordBatchService.findWordsOnTrie(wordBatchVM.getRacks(), limit == null ? Integer.MAX_VALUE : limit)
+            .thenApply(results -> ResponseEntity.ok().body(results));
+    }
+
+    /**
+     * {@code GET  /words/search/:string/stream} : stream all possible words with only characters in the "word", see
+     * {@link #searchAllWordsWithThoseCharacters}. Every word is written as soon as it is found, as a
+     * {@code {"word":"quiz","score":22}} line, so neither the search nor the response holds the whole result.
+     *
+     * @param str the word to retrieve.
+     * @param response the response the words are written to.
+     * @return the search, writing the response with status {@code 200 (OK)} and the words in body, one per line, in no
+     * particular order, or with status {@code 503 (Service Unavailable)} if too many searches are waiting.
+     */
+    @GetMapping(value = "/words/search/{str}/stream", produces = APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> streamAllWordsWithThoseCharacters(@PathVariable String str, HttpServletResponse response) {
+        log.debug("REST request to stream Words for : {}", str);
+        return new WebAsyncTask<>(null, searchExecutor, () -> {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(APPLICATION_NDJSON_VALUE);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(),
+                StandardCharsets.UTF_8));
+            int[] count = new int[1];
+            try {
+                wordService.findWordsOnTrie(str, (word, length, score) -> {
+                    try {
+                        // the words are made of letters only, which need no escaping
+                        writer.write("{\"word\":\"");
+                        writer.write(word, 0, length);
+                        writer.write("\",\"score\":");
+                        writer.write(Integer.toString(score));
+                        writer.write("}\n");
+                        if (count[0]++ == 0) {
+                            // send the headers and the first word right away, then a buffer at a time
+                            writer.flush();
+                        }
+                    } catch (IOException e) {
+                        // the client is gone, stop searching
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+            return null;
+        });
+    }
+
+    /**
+     * {@code POST  /words/moves} : get the best moves of a rack on a board.
+     *
+     * @param boardVM the board and the rack.
+     * @param limit the maximum number of moves to return.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of moves in body, best scores first,
+     * with status {@code 400 (Bad Request)} if the board, the rack or the limit is not valid, or with status
+     * {@code 503 (Service Unavailable)} if too many searches are waiting.
+     */
+    @PostMapping("/words/moves")
+    public CompletableFuture<ResponseEntity<List<BoardMove>>> findBestMoves(@Valid @RequestBody BoardVM boardVM,
+                                                         @RequestParam(defaultValue = "10") int limit) {
+        log.debug("REST request to get the best moves for : {}, limit {}", boardVM, limit);
+        if (limit <= 0) {
+            throw new BadRequestAlertException("The limit must be positive", ENTITY_NAME, "limitnotpositive");
+        }
+        Board board = new Board(boardVM.getBoard());
+        return CompletableFuture.supplyAsync(() -> {
+            List<BoardMove> moves = wordService.findBestMoves(board, boardVM.getRack(), limit);
+            return ResponseEntity.ok().body(moves);
+        }, searchExecutor);
+    }
+
+    /**
+     * @param last the last word of a page.
+     * @return the opaque cursor of the next page.
+     */
+    private static String encodeCursor(ScoredWord last) {
+        String cursor = last.getScore() + ":" + last.getWord();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor the cursor of a page.
+     * @return the last word of the previous page.
+     * @throws BadRequestAlertException if the cursor was not made by {@link #encodeCursor(ScoredWord)}.
+     */
+    private static ScoredWord decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            return new ScoredWord(decoded.substring(separator + 1), Integer.parseInt(decoded.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestAlertException("The cursor is not valid", ENTITY_NAME, "cursorinvalid");
+        }
     }
 }
@@ -0,0 +1,52 @@
+package com.vw.blue.scrabblesolverservice.web.rest.vm;
+
+import com.vw.blue.scrabblesolverservice.service.lexicon.Board;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * View Model object for storing a board and the rack to play on it.
+ */
+public class BoardVM {
+
+    /**
+     * The rows of the board: "." for an empty square, a letter for a tile, in upper case for a blank.
+     */
+    @NotNull
+    @Size(min = Board.SIZE, max = Board.SIZE)
+    private List<@NotNull @Pattern(regexp = "^[a-zA-Z.]{15}$") String> board;
+
+    /**
+     * The tiles of the rack: letters, and "?" for a blank.
+     */
+    @NotNull
+    @Pattern(regexp = "^[a-zA-Z?]{1,7}$")
+    private String rack;
+
+    public List<String> getBoard() {
+        return board;
+    }
+
+    public void setBoard(List<String> board) {
+        this.board = board;
+    }
+
+    public String getRack() {
+        return rack;
+    }
+
+    public void setRack(String rack) {
+        this.rack = rack;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardVM{" +
+            "board=" + board +
+            ", rack='" + rack + '\'' +
+            '}';
+    }
+}
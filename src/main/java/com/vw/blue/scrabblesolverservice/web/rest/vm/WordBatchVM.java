@@ -0,0 +1,39 @@
+package com.vw.blue.scrabblesolverservice.web.rest.vm;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * View Model object for storing the racks of a batch search.
+ */
+public class WordBatchVM {
+
+    /**
+     * The largest number of racks of a batch.
+     */
+    public static final int MAX_RACKS = 1000;
+
+    /**
+     * The racks: letters, and "?" for a blank.
+     */
+    @NotNull
+    @Size(min = 1, max = MAX_RACKS)
+    private List<@NotNull @Pattern(regexp = "^[a-zA-Z?]{1,15}$") String> racks;
+
+    public List<String> getRacks() {
+        return racks;
+    }
+
+    public void setRacks(List<String> racks) {
+        this.racks = racks;
+    }
+
+    @Override
+    public String toString() {
+        return "WordBatchVM{" +
+            "racks=" + racks +
+            '}';
+    }
+}
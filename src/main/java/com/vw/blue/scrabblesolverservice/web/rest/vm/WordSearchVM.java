@@ -0,0 +1,126 @@
+package com.vw.blue.scrabblesolverservice.web.rest.vm;
+
+import com.vw.blue.scrabblesolverservice.service.lexicon.WordFilter;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
+
+/**
+ * View Model object for storing the conditions of the words of a rack search, and the page of them to return.
+ */
+public class WordSearchVM {
+
+    @Min(1)
+    private Integer minLength;
+
+    @Min(1)
+    private Integer maxLength;
+
+    /**
+     * The letters the words contain, as many times as they are given.
+     */
+    @Pattern(regexp = "^[a-zA-Z]*$")
+    private String letters;
+
+    @Pattern(regexp = "^[a-zA-Z]*$")
+    private String startsWith;
+
+    @Pattern(regexp = "^[a-zA-Z]*$")
+    private String endsWith;
+
+    private Integer minScore;
+
+    /**
+     * The cursor of the page, from the link to the next page of the previous one, null for the first page.
+     */
+    private String cursor;
+
+    public Integer getMinLength() {
+        return minLength;
+    }
+
+    public void setMinLength(Integer minLength) {
+        this.minLength = minLength;
+    }
+
+    public Integer getMaxLength() {
+        return maxLength;
+    }
+
+    public void setMaxLength(Integer maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    public String getLetters() {
+        return letters;
+    }
+
+    public void setLetters(String letters) {
+        this.letters = letters;
+    }
+
+    public String getStartsWith() {
+        return startsWith;
+    }
+
+    public void setStartsWith(String startsWith) {
+        this.startsWith = startsWith;
+    }
+
+    public String getEndsWith() {
+        return endsWith;
+    }
+
+    public void setEndsWith(String endsWith) {
+        this.endsWith = endsWith;
+    }
+
+    public Integer getMinScore() {
+        return minScore;
+    }
+
+    public void setMinScore(Integer minScore) {
+        this.minScore = minScore;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * @return the filter of the words, accepting any word for the conditions not set.
+     */
+    public WordFilter toFilter() {
+        WordFilter.Builder builder = new WordFilter.Builder()
+            .letters(letters)
+            .startsWith(startsWith)
+            .endsWith(endsWith);
+        if (minLength != null) {
+            builder.minLength(minLength);
+        }
+        if (maxLength != null) {
+            builder.maxLength(maxLength);
+        }
+        if (minScore != null) {
+            builder.minScore(minScore);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public String toString() {
+        return "WordSearchVM{" +
+            "minLength=" + minLength +
+            ", maxLength=" + maxLength +
+            ", letters='" + letters + '\'' +
+            ", startsWith='" + startsWith + '\'' +
+            ", endsWith='" + endsWith + '\'' +
+            ", minScore=" + minScore +
+            ", cursor='" + cursor + '\'' +
+            '}';
+    }
+}
@@ -0,0 +1,47 @@
+package com.vw.blue.scrabblesolverservice.repository;
+
+import com.vw.blue.scrabblesolverservice.BlueApp;
+import com.vw.blue.scrabblesolverservice.domain.Word;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the {@link WordRepository}.
+ */
+@SpringBootTest(classes = BlueApp.class)
+@Transactional
+public class WordRepositoryIT {
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void streamsTextsWithoutManagingEntities() {
+        wordRepository.saveAll(Arrays.asList(new Word("qzxa"), new Word("qzxb"), new Word("qzxc")));
+        wordRepository.flush();
+        entityManager.clear();
+
+        List<String> texts;
+        try (Stream<String> stream = wordRepository.streamAllTexts()) {
+            texts = stream.collect(Collectors.toList());
+        }
+
+        assertThat(texts).hasSize((int) wordRepository.count()).contains("qzxa", "qzxb", "qzxc");
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+}
@@ -0,0 +1,42 @@
+package com.vw.blue.scrabblesolverservice.service;
+
+import com.vw.blue.scrabblesolverservice.config.ApplicationProperties;
+import com.vw.blue.scrabblesolverservice.repository.WordRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Test class for the {@link LexiconHealthIndicator}.
+ */
+public class LexiconHealthIndicatorTest {
+
+    @Test
+    public void isUpOnceTheLexiconIsLoadedFromTheFile() {
+        WordRepository wordRepository = mock(WordRepository.class);
+        WordService wordService = new WordService(wordRepository, new ApplicationProperties(), new ConcurrentMapCacheManager());
+        LexiconHealthIndicator indicator = new LexiconHealthIndicator(wordService);
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(wordService.findWordsOnTrie("tac")).isEmpty();
+
+        wordService.loadLexicon(Stream.of("cat", " act ", "", "it's", "tea"));
+
+        Health health = indicator.health();
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("words", 3);
+        assertThat(wordService.findWordsOnTrie("tac")).containsExactlyInAnyOrder("act", "cat");
+
+        // the words saved in the DB meanwhile are not loaded again
+        wordService.handleDatapopulationEvent(new WordDataPopulationEvent(this, "populated"));
+        verifyNoInteractions(wordRepository);
+    }
+}
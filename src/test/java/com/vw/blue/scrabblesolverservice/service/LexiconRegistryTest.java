@@ -0,0 +1,117 @@
+package com.vw.blue.scrabblesolverservice.service;
+
+import com.vw.blue.scrabblesolverservice.config.ApplicationProperties;
+import com.vw.blue.scrabblesolverservice.service.dto.LexiconDTO;
+import com.vw.blue.scrabblesolverservice.service.lexicon.LexiconType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for the {@link LexiconRegistry}.
+ */
+public class LexiconRegistryTest {
+
+    @TempDir
+    Path directory;
+
+    private final WordService wordService = mock(WordService.class);
+
+    private final ApplicationProperties applicationProperties = new ApplicationProperties();
+
+    @Test
+    public void loadsWordListsOnFirstSearch() throws IOException {
+        addSource("twl", LexiconType.DAWG, "cat", "act", " tac ", "", "c4t", "QUIZ");
+        when(wordService.findWordsOnTrie("tac", 10)).thenReturn(Collections.singletonList("cat"));
+        LexiconRegistry registry = registry();
+
+        assertThat(registry.getLexicons()).extracting(LexiconDTO::getName, LexiconDTO::getType, LexiconDTO::isLoaded)
+            .containsExactly(tuple("default", LexiconType.TRIE, false), tuple("twl", LexiconType.DAWG, false));
+
+        assertThat(registry.findWords("twl", "TAC", 10)).contains(Arrays.asList("act", "cat", "tac"));
+        assertThat(registry.findWords("twl", "qu?z", 10)).contains(Collections.singletonList("quIz"));
+        assertThat(registry.findWords("twl", "", 10)).contains(Collections.emptyList());
+        assertThat(registry.findWords("default", "tac", 10)).contains(Collections.singletonList("cat"));
+        assertThat(registry.findWords("sowpods", "tac", 10)).isEmpty();
+        assertThat(registry.getLexicons()).extracting(LexiconDTO::getName, LexiconDTO::isLoaded, LexiconDTO::getSize)
+            .contains(tuple("twl", true, 4));
+    }
+
+    @Test
+    public void loadsWordListsOfOtherAlphabets() throws IOException {
+        addSource("fise", LexiconType.TRIE, "llama", "Año", "calle", "kiwi");
+        applicationProperties.getLexicons().getSources().get("fise").setAlphabet("spanish");
+        LexiconRegistry registry = registry();
+
+        assertThat(registry.findWords("fise", "LLAMA", 10)).contains(Collections.singletonList("llama"));
+        assertThat(registry.findWords("fise", "ÑAO", 10)).contains(Collections.singletonList("año"));
+        assertThat(registry.getLexicons()).extracting(LexiconDTO::getSize).containsExactly(0, 3);
+
+        applicationProperties.getLexicons().getSources().get("fise").setType(LexiconType.DAWG);
+        assertThatThrownBy(this::registry).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void evictsLeastRecentlySearchedBeyondBudget() throws IOException {
+        addSource("a", LexiconType.TRIE, "cat", "act");
+        addSource("b", LexiconType.FLAT, "tea", "eat");
+        addSource("c", LexiconType.SIGNATURE, "dog", "god");
+        applicationProperties.getLexicons().setMaxResidentWords(4);
+        LexiconRegistry registry = registry();
+
+        registry.findWords("a", "tac", 10);
+        registry.findWords("b", "tea", 10);
+        registry.findWords("c", "dog", 10);
+
+        assertThat(loaded(registry)).containsExactly(false, false, true, true);
+        assertThat(registry.findWords("a", "tac", 10)).contains(Arrays.asList("act", "cat"));
+        assertThat(loaded(registry)).containsExactly(false, true, false, true);
+    }
+
+    @Test
+    public void evictsIdleWordLists() throws IOException {
+        addSource("a", LexiconType.TRIE, "cat", "act");
+        LexiconRegistry registry = registry();
+        registry.findWords("a", "tac", 10);
+
+        registry.evictIdleLexicons();
+        assertThat(loaded(registry)).containsExactly(false, true);
+
+        applicationProperties.getLexicons().setIdleTimeout(Duration.ZERO);
+        registry = registry();
+        registry.findWords("a", "tac", 10);
+        registry.evictIdleLexicons();
+        assertThat(loaded(registry)).containsExactly(false, false);
+        assertThat(registry.findWords("a", "tac", 10)).contains(Arrays.asList("act", "cat"));
+    }
+
+    private LexiconRegistry registry() {
+        return new LexiconRegistry(wordService, applicationProperties, new DefaultResourceLoader());
+    }
+
+    private void addSource(String name, LexiconType type, String... words) throws IOException {
+        Path file = Files.write(directory.resolve(name + ".txt"), Arrays.asList(words));
+        ApplicationProperties.Lexicons.Source source = new ApplicationProperties.Lexicons.Source();
+        source.setLocation(file.toUri().toString());
+        source.setType(type);
+        applicationProperties.getLexicons().getSources().put(name, source);
+    }
+
+    private static Iterable<Boolean> loaded(LexiconRegistry registry) {
+        return () -> registry.getLexicons().stream().map(LexiconDTO::isLoaded).iterator();
+    }
+}
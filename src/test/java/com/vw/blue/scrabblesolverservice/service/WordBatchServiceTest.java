@@ -0,0 +1,105 @@
+package com.vw.blue.scrabblesolverservice.service;
+
+import com.vw.blue.scrabblesolverservice.service.dto.RackSearchDTO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for the {@link WordBatchService}.
+ */
+public class WordBatchServiceTest {
+
+    private final WordService wordService = mock(WordService.class);
+
+    private final ThreadPoolTaskExecutor executor = executor();
+
+    private final WordBatchService wordBatchService = new WordBatchService(wordService, executor);
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void searchesAnagramsOnce() {
+        when(wordService.findWordsOnTrie("tac", 5)).thenReturn(Arrays.asList("act", "cat", "tac"));
+        when(wordService.findWordsOnTrie("qu?z", 5)).thenReturn(Collections.singletonList("quIz"));
+
+        List<RackSearchDTO> results = wordBatchService.findWordsOnTrie(Arrays.asList("tac", "qu?z", "CAT", "tac",
+            "z?uq"), 5).join();
+
+        assertThat(results).extracting(RackSearchDTO::getRack, RackSearchDTO::getWords, RackSearchDTO::isShared)
+            .containsExactly(
+                tuple("tac", Arrays.asList("act", "cat", "tac"), false),
+                tuple("qu?z", Collections.singletonList("quIz"), false),
+                tuple("CAT", Arrays.asList("act", "cat", "tac"), true),
+                tuple("tac", Arrays.asList("act", "cat", "tac"), true),
+                tuple("z?uq", Collections.singletonList("quIz"), true));
+        assertThat(results.get(2).getDurationMicros()).isEqualTo(results.get(0).getDurationMicros());
+        verify(wordService, times(2)).findWordsOnTrie(anyString(), anyInt());
+    }
+
+    @Test
+    public void reportsFailedSearches() {
+        when(wordService.findWordsOnTrie("tac", 5)).thenThrow(new IllegalStateException("lexicon gone"));
+
+        assertThatThrownBy(() -> wordBatchService.findWordsOnTrie(Collections.singletonList("tac"), 5).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void rejectsBatchesWhenBusy() {
+        CountDownLatch busy = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < executor.getMaxPoolSize(); i++) {
+                executor.execute(() -> {
+                    try {
+                        busy.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            assertThatThrownBy(() -> wordBatchService.findWordsOnTrie(Arrays.asList("tac", "qu?z"), 5))
+                .isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            busy.countDown();
+        }
+        verify(wordService, times(0)).findWordsOnTrie(anyString(), anyInt());
+    }
+
+    @Test
+    public void keysRacksBySortedLetters() {
+        assertThat(WordService.anagramKey("Qu?Z")).isEqualTo(WordService.anagramKey("zq?u")).isEqualTo("?quz");
+    }
+
+    private static ThreadPoolTaskExecutor executor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,60 @@
+package com.vw.blue.scrabblesolverservice.service;
+
+import com.vw.blue.scrabblesolverservice.BlueApp;
+import com.vw.blue.scrabblesolverservice.domain.Word;
+import com.vw.blue.scrabblesolverservice.repository.WordRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link WordImportService}.
+ */
+@SpringBootTest(classes = BlueApp.class)
+@Transactional
+public class WordImportServiceIT {
+
+    @Autowired
+    private WordImportService wordImportService;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Test
+    public void replacesWordsWithDistinctTrimmedLines() {
+        long total = wordImportService.importWords(Stream.of("apple", " apple ", "", "pear", "  ", "plum\t", "pear"));
+
+        assertThat(total).isEqualTo(3);
+        assertThat(wordRepository.findAll()).extracting(Word::getText)
+            .containsExactlyInAnyOrder("apple", "pear", "plum");
+    }
+
+    @Test
+    public void insertsMoreWordsThanOneBatch() {
+        List<String> lines = IntStream.range(0, 12_345).mapToObj(i -> "word" + i).collect(Collectors.toList());
+
+        long total = wordImportService.importWords(lines.stream());
+
+        assertThat(total).isEqualTo(lines.size());
+        assertThat(wordRepository.count()).isEqualTo(lines.size());
+    }
+
+    @Test
+    public void sharesTheIdentifierSequenceWithSavedWords() {
+        wordImportService.importWords(Stream.of("apple", "pear"));
+
+        Word saved = wordRepository.saveAndFlush(new Word("plum"));
+
+        assertThat(wordRepository.findAll()).extracting(Word::getId).doesNotHaveDuplicates()
+            .filteredOn(id -> !id.equals(saved.getId())).allMatch(id -> id < saved.getId());
+    }
+}
@@ -0,0 +1,85 @@
+package com.vw.blue.scrabblesolverservice.service;
+
+import com.vw.blue.scrabblesolverservice.config.ApplicationProperties;
+import com.vw.blue.scrabblesolverservice.repository.WordRepository;
+import com.vw.blue.scrabblesolverservice.service.lexicon.ScoredWord;
+import com.vw.blue.scrabblesolverservice.service.lexicon.WordFilter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test of the {@link WordService} caching the words found for a rack.
+ */
+public class WordServiceCacheTest {
+
+    private WordService wordService;
+
+    private ConcurrentMapCache cache;
+
+    @BeforeEach
+    public void setup() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(WordService.WORDS_BY_RACK_CACHE);
+        cache = (ConcurrentMapCache) cacheManager.getCache(WordService.WORDS_BY_RACK_CACHE);
+        wordService = new WordService(mock(WordRepository.class), new ApplicationProperties(), cacheManager);
+        wordService.loadLexicon(Stream.of("cat", "act", "tea", "eat"));
+    }
+
+    @Test
+    public void sharesWordsBetweenAnagrams() {
+        List<String> words = wordService.findWordsOnTrie("tac", 10);
+
+        assertThat(wordService.findWordsOnTrie("CAT", 10)).isEqualTo(words).containsExactly("act", "cat");
+        assertThat(wordService.findScoredWordsOnTrie("atc", WordFilter.NONE, null, 10))
+            .extracting(ScoredWord::getWord).isEqualTo(words);
+        assertThat(cache.getNativeCache()).hasSize(1);
+
+        wordService.findWordsOnTrie("tac", 1);
+        wordService.findWordsOnTrie("a?", 10);
+        assertThat(cache.getNativeCache()).hasSize(3);
+    }
+
+    @Test
+    public void skipsFilteredAndNextPages() {
+        WordFilter filter = new WordFilter.Builder().startsWith("c").build();
+
+        assertThat(wordService.findScoredWordsOnTrie("tac", filter, null, 10))
+            .extracting(ScoredWord::getWord).containsExactly("cat");
+        assertThat(wordService.findScoredWordsOnTrie("tac", WordFilter.NONE, new ScoredWord("act", 5), 10))
+            .extracting(ScoredWord::getWord).containsExactly("cat");
+        assertThat(cache.getNativeCache()).isEmpty();
+    }
+
+    @Test
+    public void skipsSearchesAboveTheMaxLimit() {
+        int maxLimit = new ApplicationProperties().getSearch().getCache().getMaxLimit();
+
+        assertThat(wordService.findWordsOnTrie("tac")).containsExactly("act", "cat");
+        assertThat(wordService.findWordsOnTrie("tac", maxLimit + 1)).containsExactly("act", "cat");
+        assertThat(cache.getNativeCache()).isEmpty();
+    }
+
+    @Test
+    public void forgetsWordsOnceTheWordsChange() {
+        assertThat(wordService.findWordsOnTrie("tac", 10)).containsExactly("act", "cat");
+
+        wordService.insertTextToTrie("tac");
+        assertThat(cache.getNativeCache()).isEmpty();
+        assertThat(wordService.findWordsOnTrie("cat", 10)).containsExactly("act", "cat", "tac");
+
+        // the words are kept when a word already in the lexicon is added again
+        wordService.insertTextToTrie("tac");
+        assertThat(cache.getNativeCache()).hasSize(1);
+
+        wordService.loadLexicon(Stream.of("eat", "tea"));
+        assertThat(wordService.findWordsOnTrie("cat", 10)).containsExactly("tac");
+    }
+}
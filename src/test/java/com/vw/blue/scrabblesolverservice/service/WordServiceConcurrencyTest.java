@@ -0,0 +1,121 @@
+package com.vw.blue.scrabblesolverservice.service;
+
+import com.vw.blue.scrabblesolverservice.config.ApplicationProperties;
+import com.vw.blue.scrabblesolverservice.domain.Word;
+import com.vw.blue.scrabblesolverservice.repository.WordRepository;
+import com.vw.blue.scrabblesolverservice.service.lexicon.LexiconType;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Stress test of concurrent searches on the {@link WordService}, while words are being inserted.
+ */
+public class WordServiceConcurrencyTest {
+
+    // racks without a "z", so that the inserted words never change their results
+    private static final String TILE_BAG =
+        "aaaaaaaaabbccddddeeeeeeeeeeeeffggghhiiiiiiiiijkllllmmnnnnnnooooooooppqrrrrrrssssttttttuuuuvvwwxyy";
+
+    private static final int RACKS = 100;
+
+    private static final int SEARCHES_PER_THREAD = 300;
+
+    private static final int INSERTS = 5;
+
+    @ParameterizedTest
+    @EnumSource(LexiconType.class)
+    public void concurrentSearchesFindSameWordsAsSequentialOnes(LexiconType type) throws Exception {
+        WordService wordService = wordService(type);
+        List<String> racks = racks();
+        Map<String, List<String>> expected = new HashMap<>();
+        for (String rack : racks) {
+            expected.put(rack, wordService.findWordsOnTrie(rack));
+        }
+
+        int threads = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> searchers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                searchers.add(executor.submit(() -> {
+                    start.await();
+                    Random random = new Random(seed);
+                    int mismatches = 0;
+                    for (int i = 0; i < SEARCHES_PER_THREAD; i++) {
+                        String rack = racks.get(random.nextInt(racks.size()));
+                        if (!wordService.findWordsOnTrie(rack).equals(expected.get(rack))) {
+                            mismatches++;
+                        }
+                    }
+                    return mismatches;
+                }));
+            }
+            Future<?> writer = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < INSERTS; i++) {
+                    wordService.insertTextToTrie("zz" + (char) ('a' + i) + "z");
+                }
+                return null;
+            });
+            start.countDown();
+
+            for (Future<Integer> searcher : searchers) {
+                assertThat(searcher.get(2, TimeUnit.MINUTES)).as("mismatched searches").isZero();
+            }
+            writer.get(2, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(wordService.findWordsOnTrie("zzzzabcde")).contains("zzaz", "zzbz", "zzcz", "zzdz", "zzez");
+    }
+
+    private static WordService wordService(LexiconType type) throws IOException {
+        List<Word> words;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            WordServiceConcurrencyTest.class.getClassLoader().getResourceAsStream("words.txt"), StandardCharsets.UTF_8))) {
+            words = reader.lines()
+                .map(String::trim)
+                .filter(text -> text.matches("^[a-z]+$"))
+                .distinct()
+                .map(Word::new)
+                .collect(Collectors.toList());
+        }
+        WordRepository wordRepository = mock(WordRepository.class);
+        when(wordRepository.findAll()).thenReturn(words);
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getLexicon().setType(type);
+
+        WordService wordService = new WordService(wordRepository, applicationProperties, new ConcurrentMapCacheManager());
+        wordService.handleDatapopulationEvent(new WordDataPopulationEvent(wordService, "test"));
+        return wordService;
+    }
+
+    private static List<String> racks() {
+        Random random = new Random(42);
+        List<String> racks = new ArrayList<>();
+        for (int i = 0; i < RACKS; i++) {
+            char[] rack = new char[7 + random.nextInt(5)];
+            for (int j = 0; j < rack.length; j++) {
+                rack[j] = TILE_BAG.charAt(random.nextInt(TILE_BAG.length()));
+            }
+            racks.add(new String(rack));
+        }
+        return racks;
+    }
+}
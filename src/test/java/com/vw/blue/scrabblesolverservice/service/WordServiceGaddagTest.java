@@ -0,0 +1,48 @@
+package com.vw.blue.scrabblesolverservice.service;
+
+import com.vw.blue.scrabblesolverservice.config.ApplicationProperties;
+import com.vw.blue.scrabblesolverservice.repository.WordRepository;
+import com.vw.blue.scrabblesolverservice.service.lexicon.BoardLine;
+import com.vw.blue.scrabblesolverservice.service.lexicon.LineMove;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test of the {@link WordService} keeping the GADDAG in step with the words of the lexicon.
+ */
+public class WordServiceGaddagTest {
+
+    @Test
+    public void rebuildsTheGaddagInTheBackground() {
+        WordService wordService = new WordService(mock(WordRepository.class), new ApplicationProperties(),
+            new ConcurrentMapCacheManager());
+        wordService.loadLexicon(Stream.of("at", "tab"));
+        // the build started by the load
+        wordService.refreshGaddag().join();
+        assertThat(wordService.isGaddagCurrent()).isTrue();
+        assertThat(moves(wordService)).containsExactlyInAnyOrder("2:at", "1:tab");
+
+        // the change is searched right away, and the moves once the GADDAG is refreshed
+        wordService.insertTextToTrie("bat");
+        assertThat(wordService.findWordsOnTrie("tab")).contains("bat");
+        assertThat(wordService.isGaddagCurrent()).isFalse();
+        assertThat(moves(wordService)).containsExactlyInAnyOrder("2:at", "1:tab");
+        wordService.refreshGaddag().join();
+        assertThat(wordService.isGaddagCurrent()).isTrue();
+        assertThat(moves(wordService)).containsExactlyInAnyOrder("2:at", "1:tab", "1:bat");
+    }
+
+    private static List<String> moves(WordService wordService) {
+        return wordService.findMovesOnLine(new BoardLine("..a..."), "tb").stream()
+            .map(move -> move.getStart() + ":" + move.getWord())
+            .collect(Collectors.toList());
+    }
+}
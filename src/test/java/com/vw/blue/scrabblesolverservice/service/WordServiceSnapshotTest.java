@@ -0,0 +1,56 @@
+package com.vw.blue.scrabblesolverservice.service;
+
+import com.vw.blue.scrabblesolverservice.config.ApplicationProperties;
+import com.vw.blue.scrabblesolverservice.repository.WordRepository;
+import com.vw.blue.scrabblesolverservice.service.lexicon.LexiconType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test of the {@link WordService} loading its lexicon from a snapshot.
+ */
+public class WordServiceSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void writesSnapshotOnFirstLoadThenMapsIt() throws Exception {
+        Path file = directory.resolve("lexicon.bin");
+
+        WordService first = wordService(file);
+        first.loadLexicon(Stream.of("cat", "act", "tea"));
+        assertThat(file).exists();
+        long written = Files.getLastModifiedTime(file).toMillis();
+
+        WordService second = wordService(file);
+        second.insertTextToTrie("tac");
+        second.loadLexicon(Stream.of("cat", "act", "tea"));
+
+        assertThat(Files.getLastModifiedTime(file).toMillis()).isEqualTo(written);
+        assertThat(second.findWordsOnTrie("tac")).containsExactlyInAnyOrder("act", "cat", "tac");
+        assertThat(second.findWordsOnTrie("eat")).containsExactly("tea");
+
+        // another dictionary replaces the stale snapshot
+        WordService third = wordService(file);
+        third.loadLexicon(Stream.of("cat", "act"));
+        assertThat(third.findWordsOnTrie("eat")).isEmpty();
+    }
+
+    private static WordService wordService(Path file) {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getLexicon().setType(LexiconType.DAWG);
+        applicationProperties.getLexicon().setSignatureMaxRackLength(0);
+        applicationProperties.getLexicon().setSnapshotFile(file.toString());
+        return new WordService(mock(WordRepository.class), applicationProperties, new ConcurrentMapCacheManager());
+    }
+}
@@ -0,0 +1,73 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for the {@link Alphabet}.
+ */
+public class AlphabetTest {
+
+    @Test
+    public void mapsEnglishLettersToTheirScores() {
+        assertThat(Alphabet.ENGLISH.size()).isEqualTo(26);
+        for (char letter = 'a'; letter <= 'z'; letter++) {
+            assertThat(Alphabet.ENGLISH.tile(letter - 'a')).isEqualTo(String.valueOf(letter));
+            assertThat(Alphabet.ENGLISH.score(letter - 'a')).isEqualTo(LetterScores.of(letter));
+        }
+    }
+
+    @Test
+    public void splitsWordsIntoLongestTiles() {
+        Alphabet spanish = Alphabet.SPANISH;
+
+        assertThat(spanish.encode("llama")).containsExactly(index(spanish, "ll"), 0, index(spanish, "m"), 0);
+        assertThat(spanish.encode("chorro")).containsExactly(index(spanish, "ch"), index(spanish, "o"),
+            index(spanish, "rr"), index(spanish, "o"));
+        assertThat(spanish.score(spanish.encode("año"))).isEqualTo(10);
+        assertThat(spanish.encode("kiwi")).isNull();
+        assertThat(spanish.encode("Lama")).isNull();
+    }
+
+    @Test
+    public void normalizesWords() {
+        assertThat(Alphabet.GERMAN.toWord("Äpfel")).isEqualTo("äpfel");
+        assertThat(Alphabet.POLISH.toWord("ŻÓŁW")).isEqualTo("żółw");
+        assertThat(Alphabet.ENGLISH.toWord("Äpfel")).isNull();
+        assertThat(Alphabet.ENGLISH.toWord("")).isNull();
+        assertThat(Alphabet.ENGLISH.toWord(null)).isNull();
+    }
+
+    @Test
+    public void findsAlphabetsByName() {
+        assertThat(Alphabet.named("Spanish")).isSameAs(Alphabet.SPANISH);
+        assertThat(Alphabet.named("polish").size()).isEqualTo(32);
+        assertThatThrownBy(() -> Alphabet.named("klingon")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void rejectsInvalidTiles() {
+        LinkedHashMap<String, Integer> tileScores = new LinkedHashMap<>();
+        tileScores.put("A", 1);
+        assertThatThrownBy(() -> Alphabet.of(tileScores)).isInstanceOf(IllegalArgumentException.class);
+
+        tileScores.clear();
+        for (int i = 0; i <= Alphabet.MAX_SIZE; i++) {
+            tileScores.put("a" + new String(new char[i]).replace('\0', 'b'), 1);
+        }
+        assertThatThrownBy(() -> Alphabet.of(tileScores)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int index(Alphabet alphabet, String tile) {
+        for (int i = 0; i < alphabet.size(); i++) {
+            if (alphabet.tile(i).equals(tile)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(tile);
+    }
+}
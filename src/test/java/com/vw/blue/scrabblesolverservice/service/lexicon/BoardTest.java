@@ -0,0 +1,141 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import com.vw.blue.scrabblesolverservice.service.lexicon.BoardMove.Direction;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.words;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Test class for the {@link Board}.
+ */
+public class BoardTest {
+
+    @Test
+    public void scoresPremiumSquaresOfFirstMove() {
+        Gaddag gaddag = Gaddag.of(Arrays.asList("quiet", "quit"));
+
+        List<BoardMove> moves = new Board(rows()).findBestMoves(gaddag, "quiet".toCharArray(), 3);
+
+        // through the center double word, with the q then the t on a double letter
+        assertThat(moves).extracting(BoardMove::toString).containsExactly(
+            new BoardMove(3, 7, Direction.DOWN, "quiet", 48).toString(),
+            new BoardMove(7, 3, Direction.ACROSS, "quiet", 48).toString(),
+            new BoardMove(7, 7, Direction.ACROSS, "quiet", 30).toString());
+    }
+
+    @Test
+    public void scoresCrossWords() {
+        Gaddag gaddag = Gaddag.of(Arrays.asList("cat", "cats", "as", "at"));
+        Board board = new Board(rows(7, "......cat......"));
+
+        List<BoardMove> moves = board.findBestMoves(gaddag, "as".toCharArray(), Integer.MAX_VALUE);
+
+        assertThat(moves).extracting(BoardMove::toString).containsExactly(
+            // with "cats" across
+            new BoardMove(6, 9, Direction.DOWN, "as", 8).toString(),
+            // with "at" down, the a on a double letter
+            new BoardMove(6, 8, Direction.ACROSS, "as", 6).toString(),
+            new BoardMove(7, 6, Direction.ACROSS, "cats", 6).toString(),
+            new BoardMove(6, 8, Direction.DOWN, "at", 3).toString(),
+            new BoardMove(7, 7, Direction.DOWN, "as", 2).toString());
+    }
+
+    @Test
+    public void addsBingoBonus() {
+        Gaddag gaddag = Gaddag.of(Collections.singletonList("retains"));
+
+        List<BoardMove> moves = new Board(rows()).findBestMoves(gaddag, "retains".toCharArray(), 1);
+
+        assertThat(moves).extracting(BoardMove::getScore).containsExactly(2 * 8 + Board.BINGO_BONUS);
+    }
+
+    @Test
+    public void scoresBlanksAsZero() {
+        Gaddag gaddag = Gaddag.of(Collections.singletonList("quit"));
+
+        List<BoardMove> moves = new Board(rows()).findBestMoves(gaddag, "uit?".toCharArray(), 1);
+
+        assertThat(moves).extracting(BoardMove::getWord, BoardMove::getScore).containsExactly(
+            tuple("Quit", 2 * 3));
+    }
+
+    @Test
+    public void findsOnlyValidWords() {
+        Set<String> words = new HashSet<>(words());
+        Gaddag gaddag = Gaddag.of(words());
+        Board board = new Board(rows(7, "....quiet......", 8, "........e......", 9, "........a......"));
+
+        List<BoardMove> moves = board.findBestMoves(gaddag, "rstl?ne".toCharArray(), Integer.MAX_VALUE);
+
+        assertThat(moves).isNotEmpty();
+        for (BoardMove move : moves) {
+            char[][] played = play(board, move);
+            assertThat(words).as("%s", move).contains(move.getWord().toLowerCase());
+            for (int i = 0; i < move.getWord().length(); i++) {
+                int row = move.getRow() + (move.getDirection() == Direction.DOWN ? i : 0);
+                int column = move.getColumn() + (move.getDirection() == Direction.ACROSS ? i : 0);
+                String crossWord = move.getDirection() == Direction.ACROSS
+                    ? run(played, row, column, 1, 0) : run(played, row, column, 0, 1);
+                if (board.square(row, column) == BoardLine.EMPTY && crossWord.length() > 1) {
+                    assertThat(words).as("%s across %s", crossWord, move).contains(crossWord);
+                }
+            }
+        }
+        assertThat(moves).isSortedAccordingTo(BoardMove.BEST_FIRST);
+    }
+
+    @Test
+    public void rejectsInvalidBoards() {
+        assertThatThrownBy(() -> new Board(Collections.singletonList("...")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Board(rows(3, "......1........")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * @return the rows of an empty board, but for the given rows, as row index and squares pairs.
+     */
+    private static List<String> rows(Object... rows) {
+        List<String> board = new ArrayList<>(Collections.nCopies(Board.SIZE, "..............."));
+        for (int i = 0; i < rows.length; i += 2) {
+            board.set((Integer) rows[i], (String) rows[i + 1]);
+        }
+        return board;
+    }
+
+    private static char[][] play(Board board, BoardMove move) {
+        char[][] played = new char[Board.SIZE][Board.SIZE];
+        for (int row = 0; row < Board.SIZE; row++) {
+            for (int column = 0; column < Board.SIZE; column++) {
+                played[row][column] = board.square(row, column);
+            }
+        }
+        for (int i = 0; i < move.getWord().length(); i++) {
+            int row = move.getRow() + (move.getDirection() == Direction.DOWN ? i : 0);
+            int column = move.getColumn() + (move.getDirection() == Direction.ACROSS ? i : 0);
+            played[row][column] = move.getWord().charAt(i);
+        }
+        return played;
+    }
+
+    /**
+     * @return the lower-case word through a square in a direction.
+     */
+    private static String run(char[][] played, int row, int column, int rowStep, int columnStep) {
+        while (row - rowStep >= 0 && column - columnStep >= 0 && played[row - rowStep][column - columnStep] != BoardLine.EMPTY) {
+            row -= rowStep;
+            column -= columnStep;
+        }
+        StringBuilder word = new StringBuilder();
+        for (; row < Board.SIZE && column < Board.SIZE && played[row][column] != BoardLine.EMPTY; row += rowStep, column += columnStep) {
+            word.append(Character.toLowerCase(played[row][column]));
+        }
+        return word.toString();
+    }
+}
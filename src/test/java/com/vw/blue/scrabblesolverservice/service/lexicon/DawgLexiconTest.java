@@ -0,0 +1,96 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.find;
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.findScored;
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.words;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for the {@link DawgLexicon}.
+ */
+public class DawgLexiconTest {
+
+    @Test
+    public void findsSameWordsAsTrie() {
+        TrieLexicon trie = new TrieLexicon();
+        trie.addAll(words());
+        DawgLexicon dawg = DawgLexicon.of(words());
+
+        assertThat(dawg.size()).isEqualTo(trie.size());
+        for (String rack : Arrays.asList("bca", "aebfcghs", "etaoinr", "zzz", "qwertyuiopasdfg", "aabbccddeeff",
+            "??", "qu?z", "etaoi??")) {
+            assertThat(findScored(dawg, rack)).isEqualTo(findScored(trie, rack));
+        }
+    }
+
+    @Test
+    public void sharesSuffixes() {
+        DawgLexicon dawg = DawgLexicon.of(Arrays.asList("tap", "taps", "top", "tops"));
+
+        // t, a|o, p, s and the final node
+        assertThat(dawg.nodeCount()).isEqualTo(4);
+        assertThat(find(dawg, "tapos")).containsExactly("tap", "taps", "top", "tops");
+    }
+
+    @Test
+    public void isMuchSmallerThanTrie() {
+        DawgLexicon dawg = DawgLexicon.of(words());
+
+        int trieNodes = words().stream()
+            .flatMap(word -> IntStream.rangeClosed(1, word.length()).mapToObj(i -> word.substring(0, i)))
+            .collect(Collectors.toSet())
+            .size();
+        assertThat(dawg.nodeCount()).isLessThan(trieNodes / 4);
+    }
+
+    @Test
+    public void addAllReturnsNewLexicon() {
+        DawgLexicon dawg = DawgLexicon.of(Arrays.asList("abc", "bcd"));
+
+        Lexicon extended = dawg.addAll(Collections.singletonList("cbs"));
+
+        assertThat(find(dawg, "abcds")).containsExactly("abc", "bcd");
+        assertThat(find(extended, "abcds")).containsExactly("abc", "bcd", "cbs");
+        List<String> all = new ArrayList<>();
+        extended.forEachWord(all::add);
+        assertThat(all).containsExactly("abc", "bcd", "cbs");
+    }
+
+    @Test
+    public void offHeapLexiconFindsSameWordsAsHeapOne() {
+        DawgLexicon heap = DawgLexicon.of(words());
+        DawgLexicon offHeap = DawgLexicon.offHeap(words());
+
+        assertThat(heap.isOffHeap()).isFalse();
+        assertThat(offHeap.isOffHeap()).isTrue();
+        assertThat(offHeap.toString()).isEqualTo(heap.toString());
+        for (String rack : Arrays.asList("bca", "aebfcghs", "etaoinr", "zzz", "qwertyuiopasdfg", "qu?z", "etaoi??")) {
+            assertThat(findScored(offHeap, rack)).isEqualTo(findScored(heap, rack));
+        }
+    }
+
+    @Test
+    public void offHeapLexiconAddsWordsOffHeap() {
+        DawgLexicon offHeap = DawgLexicon.offHeap(Arrays.asList("abc", "bcd"));
+
+        Lexicon extended = offHeap.addAll(Collections.singletonList("cbs"));
+
+        assertThat(((PackedLexicon) extended).isOffHeap()).isTrue();
+        assertThat(find(extended, "abcds")).containsExactly("abc", "bcd", "cbs");
+        assertThat(((PackedLexicon) LexiconType.OFF_HEAP.empty()).isOffHeap()).isTrue();
+    }
+
+    @Test
+    public void builderRejectsUnsortedWords() {
+        PackedLexicon.Builder builder = new PackedLexicon.Builder(true).add("cbs");
+
+        assertThatThrownBy(() -> builder.add("abc")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
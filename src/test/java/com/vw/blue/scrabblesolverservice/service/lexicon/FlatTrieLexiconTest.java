@@ -0,0 +1,53 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.find;
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.findScored;
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.words;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the {@link FlatTrieLexicon}.
+ */
+public class FlatTrieLexiconTest {
+
+    @Test
+    public void findsSameWordsAsTrie() {
+        TrieLexicon trie = new TrieLexicon();
+        trie.addAll(words());
+        FlatTrieLexicon flat = FlatTrieLexicon.of(words());
+
+        assertThat(flat.size()).isEqualTo(trie.size());
+        for (String rack : Arrays.asList("bca", "aebfcghs", "etaoinr", "zzz", "qwertyuiopasdfg", "aabbccddeeff",
+            "??", "qu?z", "etaoi??")) {
+            assertThat(findScored(flat, rack)).isEqualTo(findScored(trie, rack));
+        }
+    }
+
+    @Test
+    public void hasOneEdgePerTrieNode() {
+        FlatTrieLexicon flat = FlatTrieLexicon.of(words());
+
+        int trieNodes = words().stream()
+            .flatMap(word -> IntStream.rangeClosed(1, word.length()).mapToObj(i -> word.substring(0, i)))
+            .collect(Collectors.toSet())
+            .size();
+        assertThat(flat.edgeCount()).isEqualTo(trieNodes);
+    }
+
+    @Test
+    public void enumeratesWordsInOrder() {
+        FlatTrieLexicon flat = FlatTrieLexicon.of(Arrays.asList("cbs", "abc", "ab"));
+
+        List<String> all = new ArrayList<>();
+        flat.addAll(Collections.singletonList("b")).forEachWord(all::add);
+
+        assertThat(all).containsExactly("ab", "abc", "b", "cbs");
+        assertThat(find(flat, "cab")).containsExactly("ab", "abc");
+    }
+}
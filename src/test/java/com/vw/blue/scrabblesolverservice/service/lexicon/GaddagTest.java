@@ -0,0 +1,132 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.words;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the {@link Gaddag}.
+ */
+public class GaddagTest {
+
+    private static Gaddag gaddag;
+
+    @BeforeAll
+    public static void buildGaddag() {
+        gaddag = Gaddag.of(words());
+    }
+
+    @Test
+    public void generatesLegalPlacements() {
+        List<BoardLine> lines = Arrays.asList(
+            new BoardLine("......c.a......"),
+            new BoardLine("t.....").setAnchor(3, true),
+            new BoardLine("...qU..x.....ze"),
+            new BoardLine("...............").setAnchor(7, true),
+            new BoardLine("....r.....").setCrossCheck(3, mask("ae")).setCrossCheck(5, mask("aeiou")));
+        for (BoardLine line : lines) {
+            for (String rack : Arrays.asList("retains", "qxz", "ab?", "e??")) {
+                List<String> generated = generate(gaddag, line, rack);
+
+                assertThat(generated).doesNotHaveDuplicates();
+                assertThat(new TreeSet<>(generated)).as("%s with %s", line, rack).isEqualTo(legalPlacements(line, rack));
+            }
+        }
+    }
+
+    @Test
+    public void generatesThroughAnchorsOnly() {
+        Gaddag small = Gaddag.of(Arrays.asList("at", "tab", "bat", "tabs"));
+
+        assertThat(generate(small, new BoardLine("..a..."), "tbs"))
+            .containsExactlyInAnyOrder("2:at", "1:tab", "1:tabs", "1:bat");
+        assertThat(generate(small, new BoardLine("......"), "tbs")).isEmpty();
+        assertThat(generate(small, new BoardLine("......").setAnchor(0, true), "tab"))
+            .containsExactlyInAnyOrder("0:at", "0:tab", "0:bat");
+    }
+
+    @Test
+    public void playsBlanksAsAnyLetter() {
+        Gaddag small = Gaddag.of(Arrays.asList("at", "tab"));
+
+        assertThat(generate(small, new BoardLine("..a..."), "?"))
+            .containsExactly("2:aT");
+        assertThat(generate(small, new BoardLine("..a..."), "t?"))
+            .containsExactlyInAnyOrder("2:at", "2:aT", "1:taB");
+        assertThat(generate(small, new BoardLine("..a...").setCrossCheck(1, mask("b")), "t?"))
+            .containsExactlyInAnyOrder("2:at", "2:aT");
+    }
+
+    private static List<String> generate(Gaddag gaddag, BoardLine line, String rack) {
+        List<String> generated = new ArrayList<>();
+        gaddag.generateMoves(line, rack.toCharArray(),
+            (squares, start, length) -> generated.add(start + ":" + new String(squares, start, length)));
+        return generated;
+    }
+
+    /**
+     * @return the placements of the dictionary words on the line, checked one by one.
+     */
+    private static SortedSet<String> legalPlacements(BoardLine line, String rack) {
+        SortedSet<String> placements = new TreeSet<>();
+        for (String word : words()) {
+            for (int start = 0; start + word.length() <= line.length(); start++) {
+                int end = start + word.length();
+                if (start > 0 && !line.isEmpty(start - 1) || end < line.length() && !line.isEmpty(end)) {
+                    continue;
+                }
+                boolean fits = true;
+                boolean anchored = false;
+                for (int i = start; i < end && fits; i++) {
+                    char letter = word.charAt(i - start);
+                    if (line.isEmpty(i)) {
+                        fits = (line.crossCheck(i) & 1 << (letter - 'a')) != 0;
+                        anchored |= line.isAnchor(i);
+                    } else {
+                        fits = Character.toLowerCase(line.square(i)) == letter;
+                    }
+                }
+                if (fits && anchored) {
+                    char[] squares = new char[word.length()];
+                    for (int i = start; i < end; i++) {
+                        squares[i - start] = line.isEmpty(i) ? word.charAt(i - start) : line.square(i);
+                    }
+                    playTiles(line, start, squares, 0, rack, placements);
+                }
+            }
+        }
+        return placements;
+    }
+
+    /**
+     * Add the placements of the word from the rack, playing every letter to place from a tile or from a blank.
+     */
+    private static void playTiles(BoardLine line, int start, char[] squares, int next, String rack,
+                                  Set<String> placements) {
+        if (next == squares.length) {
+            placements.add(start + ":" + new String(squares));
+            return;
+        }
+        if (!line.isEmpty(start + next)) {
+            playTiles(line, start, squares, next + 1, rack, placements);
+            return;
+        }
+        char letter = squares[next];
+        if (rack.indexOf(letter) >= 0) {
+            playTiles(line, start, squares, next + 1, rack.replaceFirst(String.valueOf(letter), ""), placements);
+        }
+        if (rack.indexOf(Lexicon.BLANK) >= 0) {
+            squares[next] = Character.toUpperCase(letter);
+            playTiles(line, start, squares, next + 1, rack.replaceFirst("\\?", ""), placements);
+            squares[next] = letter;
+        }
+    }
+
+    private static int mask(String letters) {
+        return letters.chars().reduce(0, (mask, c) -> mask | 1 << (c - 'a'));
+    }
+}
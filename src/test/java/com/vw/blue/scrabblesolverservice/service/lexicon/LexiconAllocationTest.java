@@ -0,0 +1,112 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.words;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that the rack search of every {@link LexiconType} allocates a constant amount of memory per query, plus
+ * what its collector keeps.
+ */
+public class LexiconAllocationTest {
+
+    private static final char[][] RACKS = {
+        "etaoinr".toCharArray(),
+        "aebfcghsiltrone".toCharArray(),
+        "aabbccddeeffgg".toCharArray()
+    };
+
+    private static final int QUERIES = 200;
+
+    // the count and letter arrays of a query, with room to spare
+    private static final long BYTES_PER_QUERY = 1024;
+
+    // a short word as a String with its char[], and its slot in a growing list
+    private static final long BYTES_PER_RESULT = 128;
+
+    // one word in this many is added to the base of the overlays, and as many removed from it
+    private static final int CHANGED_EVERY = 100;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    public static void enableAllocationCounter() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    public void searchAllocatesConstantMemoryPerQuery() {
+        for (LexiconType type : LexiconType.values()) {
+            Lexicon lexicon = type.empty().addAll(words());
+            long[] found = new long[1];
+            WordCollector counter = (word, length, score) -> found[0]++;
+            search(lexicon, counter);
+
+            long allocated = search(lexicon, counter);
+
+            assertThat(found[0]).isGreaterThan(QUERIES);
+            assertThat(allocated / QUERIES).as("bytes per %s query", type).isLessThan(BYTES_PER_QUERY);
+        }
+    }
+
+    @Test
+    public void overlaySearchAllocatesConstantMemoryPerQuery() {
+        List<String> words = words();
+        for (LexiconType type : LexiconType.values()) {
+            // the words found in the base are checked against pending changes of words of every length
+            List<String> base = new ArrayList<>();
+            List<String> added = new ArrayList<>();
+            List<String> removed = new ArrayList<>();
+            for (int i = 0; i < words.size(); i++) {
+                (i % CHANGED_EVERY == 0 ? added : base).add(words.get(i));
+                if (i % CHANGED_EVERY == CHANGED_EVERY / 2) {
+                    removed.add(words.get(i));
+                }
+            }
+            Lexicon lexicon = OverlayLexicon.of(type, type.of(base)).addAll(added).removeAll(removed);
+            long[] found = new long[1];
+            WordCollector counter = (word, length, score) -> found[0]++;
+            search(lexicon, counter);
+
+            long allocated = search(lexicon, counter);
+
+            assertThat(found[0]).isGreaterThan(QUERIES);
+            // the base and the added words are both searched
+            assertThat(allocated / QUERIES).as("bytes per %s overlay query", type).isLessThan(2 * BYTES_PER_QUERY);
+        }
+    }
+
+    @Test
+    public void searchAllocatesLinearMemoryInResults() {
+        for (LexiconType type : LexiconType.values()) {
+            Lexicon lexicon = type.empty().addAll(words());
+            List<String> results = new ArrayList<>();
+            WordCollector collector = (word, length, score) -> results.add(new String(word, 0, length));
+            search(lexicon, collector);
+            results.clear();
+
+            long allocated = search(lexicon, collector);
+
+            assertThat(allocated).as("bytes for %s results", type)
+                .isLessThan(QUERIES * BYTES_PER_QUERY + results.size() * BYTES_PER_RESULT);
+        }
+    }
+
+    private static long search(Lexicon lexicon, WordCollector collector) {
+        long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        for (int i = 0; i < QUERIES; i++) {
+            lexicon.findWords(RACKS[i % RACKS.length], collector);
+        }
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+    }
+}
@@ -0,0 +1,300 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.words;
+
+/**
+ * Compares the rack search throughput of the {@link LexiconType}s on the {@code words.txt} dictionary, on one
+ * thread and on up to one thread per core, and the garbage collection time of the lexicons on and off heap.
+ * <p>
+ * It is not part of the test suite, run it with {@code ./mvnw test -Dtest=LexiconBenchmark}.
+ */
+public class LexiconBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(LexiconBenchmark.class);
+
+    // the distribution of the 98 letter tiles of an English set
+    private static final String TILE_BAG =
+        "aaaaaaaaabbccddddeeeeeeeeeeeeffggghhiiiiiiiiijkllllmmnnnnnnooooooooppqrrrrrrssssttttttuuuuvvwwxyyz";
+
+    private static final int RACKS = 2_000;
+
+    private static final long MEASURE_NANOS = 3_000_000_000L;
+
+    @Test
+    public void searchThroughput() {
+        for (int length : new int[]{5, 7, 8, 10, 15}) {
+            char[][] racks = racks(length);
+            for (LexiconType type : LexiconType.values()) {
+                Lexicon lexicon = type.empty().addAll(words());
+                // warm up, then measure
+                run(lexicon, racks, MEASURE_NANOS / 3);
+                double searchesPerSecond = run(lexicon, racks, MEASURE_NANOS);
+                log.info("{} letters, {}: {} searches/s", length, type, String.format("%,.0f", searchesPerSecond));
+            }
+        }
+    }
+
+    @Test
+    public void searchThroughputWithBlanks() {
+        for (int blanks = 0; blanks <= 2; blanks++) {
+            char[][] racks = racks(7);
+            for (char[] rack : racks) {
+                Arrays.fill(rack, rack.length - blanks, rack.length, Lexicon.BLANK);
+            }
+            for (LexiconType type : LexiconType.values()) {
+                Lexicon lexicon = type.empty().addAll(words());
+                run(lexicon, racks, MEASURE_NANOS / 3);
+                double searchesPerSecond = run(lexicon, racks, MEASURE_NANOS);
+                log.info("7 tiles, {} blanks, {}: {} searches/s", blanks, type, String.format("%,.0f", searchesPerSecond));
+            }
+        }
+    }
+
+    @Test
+    public void searchThroughputByThreads() throws Exception {
+        char[][] racks = racks(10);
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (LexiconType type : LexiconType.values()) {
+            Lexicon lexicon = type.empty().addAll(words());
+            run(lexicon, racks, MEASURE_NANOS / 3);
+            double single = 0;
+            for (int threads = 1; threads <= cores; threads *= 2) {
+                double searchesPerSecond = runConcurrently(lexicon, racks, threads);
+                if (threads == 1) {
+                    single = searchesPerSecond;
+                }
+                log.info("{} threads, {}: {} searches/s, {}x one thread", threads, type,
+                    String.format("%,.0f", searchesPerSecond), String.format("%.2f", searchesPerSecond / single));
+            }
+        }
+    }
+
+    @Test
+    public void gaddagMoveGeneration() {
+        long start = System.nanoTime();
+        Gaddag gaddag = Gaddag.of(words());
+        log.info("GADDAG built in {} ms: {}", (System.nanoTime() - start) / 1_000_000, gaddag);
+
+        // lines of 15 squares with a few letters of the bag, and 7 tile racks
+        Random random = new Random(15);
+        BoardLine[] lines = new BoardLine[RACKS];
+        for (int i = 0; i < lines.length; i++) {
+            char[] squares = new char[15];
+            Arrays.fill(squares, BoardLine.EMPTY);
+            for (int letters = 1 + random.nextInt(3); letters > 0; letters--) {
+                squares[random.nextInt(squares.length)] = TILE_BAG.charAt(random.nextInt(TILE_BAG.length()));
+            }
+            lines[i] = new BoardLine(new String(squares));
+        }
+        char[][] racks = racks(7);
+        long[] found = new long[1];
+        for (long nanos : new long[]{MEASURE_NANOS / 3, MEASURE_NANOS}) {
+            long generations = 0;
+            long begin = System.nanoTime();
+            long elapsed;
+            do {
+                int i = (int) (generations % lines.length);
+                gaddag.generateMoves(lines[i], racks[i], (squares, first, length) -> found[0]++);
+                generations++;
+                elapsed = System.nanoTime() - begin;
+            } while (elapsed < nanos);
+            log.info("15 squares, 7 tiles: {} lines/s, {} placements per line", String.format("%,.0f", generations * 1e9 / elapsed),
+                found[0] / generations);
+            found[0] = 0;
+        }
+    }
+
+    @Test
+    public void boardBestMoves() {
+        Gaddag gaddag = Gaddag.of(words());
+        List<String> rows = new ArrayList<>(Collections.nCopies(Board.SIZE, "..............."));
+        rows.set(6, "......w...q....");
+        rows.set(7, "....quiet.u....");
+        rows.set(8, "........exit...");
+        rows.set(9, "........a.z....");
+        Board board = new Board(rows);
+        char[][] racks = racks(7);
+        for (long nanos : new long[]{MEASURE_NANOS / 3, MEASURE_NANOS}) {
+            long requests = 0;
+            long start = System.nanoTime();
+            long elapsed;
+            do {
+                board.findBestMoves(gaddag, racks[(int) (requests % racks.length)], 10);
+                requests++;
+                elapsed = System.nanoTime() - start;
+            } while (elapsed < nanos);
+            log.info("15x15 board, 7 tiles, top 10: {} ms per request", String.format("%.2f", elapsed / 1e6 / requests));
+        }
+    }
+
+    @Test
+    public void snapshotStartup() throws Exception {
+        char[][] racks = racks(7);
+        long checksum = LexiconSnapshot.checksum(words());
+        Path file = Files.createTempFile("lexicon", ".bin");
+        try {
+            for (LexiconType type : Arrays.asList(LexiconType.DAWG, LexiconType.FLAT)) {
+                long start = System.nanoTime();
+                PackedLexicon built = (PackedLexicon) type.empty().addAll(words());
+                long buildNanos = System.nanoTime() - start;
+                LexiconSnapshot.write(built, checksum, file);
+                start = System.nanoTime();
+                PackedLexicon mapped = LexiconSnapshot.map(file, type, checksum).get();
+                long mapNanos = System.nanoTime() - start;
+                log.info("{}: built in {} ms, mapped in {} ms from {} KB", type, buildNanos / 1_000_000,
+                    String.format("%.2f", mapNanos / 1e6), Files.size(file) / 1024);
+                for (Lexicon lexicon : Arrays.asList(built, mapped)) {
+                    run(lexicon, racks, MEASURE_NANOS / 3);
+                    log.info("7 letters, {} {}: {} searches/s", lexicon == built ? "built" : "mapped", type,
+                        String.format("%,.0f", run(lexicon, racks, MEASURE_NANOS)));
+                }
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void parallelTrieBuild() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 1; parallelism <= Math.max(4, 2 * cores); parallelism *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                // warm up, then keep the fastest of a few builds
+                TrieLexicon.of(words(), pool);
+                long best = Long.MAX_VALUE;
+                for (int i = 0; i < 5; i++) {
+                    long start = System.nanoTime();
+                    TrieLexicon.of(words(), pool);
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+                log.info("Trie of {} words built by {} threads on {} cores in {} ms", words().size(), parallelism,
+                    cores, best / 1_000_000);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void trieMemory() {
+        TrieLexicon trie = TrieLexicon.of(words());
+        log.info("Estimated trie {}", trie.footprint());
+    }
+
+    @Test
+    public void garbageCollectionByStorage() {
+        char[][] racks = racks(7);
+        for (LexiconType type : Arrays.asList(LexiconType.TRIE, LexiconType.DAWG, LexiconType.OFF_HEAP)) {
+            Lexicon lexicon = type.of(words());
+            System.gc();
+            // full collections mark the whole live heap, lexicon included
+            long fullNanos = Long.MAX_VALUE;
+            for (int i = 0; i < 5; i++) {
+                long start = System.nanoTime();
+                System.gc();
+                fullNanos = Math.min(fullNanos, System.nanoTime() - start);
+            }
+            // searches keeping their top words, as the service does, so young collections run meanwhile
+            runTopWords(lexicon, racks, MEASURE_NANOS / 3);
+            long collections = gcCount();
+            long gcMillis = gcMillis();
+            double searchesPerSecond = runTopWords(lexicon, racks, MEASURE_NANOS);
+            collections = gcCount() - collections;
+            gcMillis = gcMillis() - gcMillis;
+            log.info("7 letters, {}: {} searches/s, {} collections taking {} ms in {} s, full collection in {} ms",
+                type, String.format("%,.0f", searchesPerSecond), collections, gcMillis, MEASURE_NANOS / 1_000_000_000,
+                String.format("%.1f", fullNanos / 1e6));
+        }
+    }
+
+    private static double runConcurrently(Lexicon lexicon, char[][] racks, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Double>> runs = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                runs.add(executor.submit(() -> run(lexicon, racks, MEASURE_NANOS)));
+            }
+            double searchesPerSecond = 0;
+            for (Future<Double> run : runs) {
+                searchesPerSecond += run.get();
+            }
+            return searchesPerSecond;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static double run(Lexicon lexicon, char[][] racks, long nanos) {
+        long[] found = new long[1];
+        long searches = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            lexicon.findWords(racks[(int) (searches % racks.length)], (word, length, score) -> found[0]++);
+            searches++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < nanos);
+        if (found[0] < 0) {
+            log.info("unreachable, keeps the results alive");
+        }
+        return searches * 1e9 / elapsed;
+    }
+
+    private static double runTopWords(Lexicon lexicon, char[][] racks, long nanos) {
+        long found = 0;
+        long searches = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            TopWordsCollector collector = new TopWordsCollector(10);
+            lexicon.findWords(racks[(int) (searches % racks.length)], collector);
+            found += collector.getWords().size();
+            searches++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < nanos);
+        if (found < 0) {
+            log.info("unreachable, keeps the results alive");
+        }
+        return searches * 1e9 / elapsed;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+            .mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+            .mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+    private static char[][] racks(int length) {
+        Random random = new Random(length);
+        char[][] racks = new char[RACKS][length];
+        for (char[] rack : racks) {
+            for (int i = 0; i < length; i++) {
+                rack[i] = TILE_BAG.charAt(random.nextInt(TILE_BAG.length()));
+            }
+        }
+        return racks;
+    }
+}
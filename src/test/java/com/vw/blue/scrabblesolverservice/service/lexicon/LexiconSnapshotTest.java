@@ -0,0 +1,88 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.findScored;
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.words;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for the {@link LexiconSnapshot}.
+ */
+public class LexiconSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @EnumSource(value = LexiconType.class, names = {"DAWG", "FLAT", "OFF_HEAP"})
+    public void mappedLexiconFindsSameWordsAsBuiltOne(LexiconType type) throws IOException {
+        PackedLexicon built = (PackedLexicon) type.empty().addAll(words());
+        long checksum = LexiconSnapshot.checksum(words());
+        Path file = directory.resolve("snapshots").resolve("lexicon.bin");
+
+        LexiconSnapshot.write(built, checksum, file);
+        PackedLexicon mapped = LexiconSnapshot.map(file, type, checksum).get();
+
+        assertThat(mapped).isInstanceOf(built.getClass());
+        assertThat(mapped.toString()).isEqualTo(built.toString());
+        for (String rack : Arrays.asList("bca", "aebfcghs", "etaoinr", "zzz", "qwertyuiopasdfg", "qu?z", "etaoi??")) {
+            assertThat(findScored(mapped, rack)).isEqualTo(findScored(built, rack));
+        }
+        List<String> words = new ArrayList<>();
+        mapped.forEachWord(words::add);
+        assertThat(words).isEqualTo(new ArrayList<>(new TreeSet<>(words())));
+        assertThat(directory.resolve("snapshots")).isDirectoryContaining(path -> path.equals(file))
+            .isDirectoryNotContaining(path -> path.toString().endsWith(".tmp"));
+    }
+
+    @Test
+    public void mappedLexiconAddsWordsToHeapCopy() throws IOException {
+        Path file = directory.resolve("lexicon.bin");
+        LexiconSnapshot.write(DawgLexicon.of(Arrays.asList("cat", "act")), 42, file);
+        PackedLexicon mapped = LexiconSnapshot.map(file, LexiconType.DAWG, 42).get();
+
+        Lexicon added = mapped.addAll(Collections.singletonList("tac"));
+
+        assertThat(LexiconTestData.find(added, "tac")).containsExactly("act", "cat", "tac");
+        assertThat(LexiconTestData.find(mapped, "tac")).containsExactly("act", "cat");
+    }
+
+    @Test
+    public void ignoresStaleSnapshots() throws IOException {
+        Path file = directory.resolve("lexicon.bin");
+        assertThat(LexiconSnapshot.map(file, LexiconType.DAWG, 42)).isEmpty();
+
+        LexiconSnapshot.write(DawgLexicon.of(Arrays.asList("cat", "act")), 42, file);
+
+        assertThat(LexiconSnapshot.map(file, LexiconType.DAWG, 43)).isEmpty();
+        assertThat(LexiconSnapshot.map(file, LexiconType.FLAT, 42)).isEmpty();
+        assertThat(LexiconSnapshot.map(file, LexiconType.TRIE, 42)).isEmpty();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 0}), 4);
+        }
+        assertThat(LexiconSnapshot.map(file, LexiconType.DAWG, 42)).isEmpty();
+    }
+
+    @Test
+    public void rejectsTruncatedSnapshots() throws IOException {
+        Path file = directory.resolve("lexicon.bin");
+        LexiconSnapshot.write(DawgLexicon.of(Arrays.asList("cat", "act")), 42, file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 4));
+
+        assertThatThrownBy(() -> LexiconSnapshot.map(file, LexiconType.DAWG, 42)).isInstanceOf(IOException.class);
+    }
+}
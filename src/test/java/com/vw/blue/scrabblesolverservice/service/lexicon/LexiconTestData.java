@@ -0,0 +1,103 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Words and helpers shared by the lexicon tests.
+ */
+final class LexiconTestData {
+
+    private static List<String> words;
+
+    private LexiconTestData() {
+    }
+
+    /**
+     * @return the valid words of the {@code words.txt} dictionary.
+     */
+    static synchronized List<String> words() {
+        if (words == null) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                LexiconTestData.class.getClassLoader().getResourceAsStream("words.txt"), StandardCharsets.UTF_8))) {
+                words = reader.lines()
+                    .map(String::trim)
+                    .filter(word -> word.matches("^[a-z]+$"))
+                    .distinct()
+                    .collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * @return the words of the dictionary that can be spelled with the rack, in order, checked one by one.
+     */
+    static SortedSet<String> spellable(String rack) {
+        return new TreeSet<>(playable(rack).keySet());
+    }
+
+    /**
+     * @return the words of the dictionary that can be played with the rack, with the letters played as blanks in
+     * upper case, and their scores, checked one by one.
+     */
+    static SortedMap<String, Integer> playable(String rack) {
+        SortedMap<String, Integer> playable = new TreeMap<>();
+        for (String word : words()) {
+            int[] counts = new int[26];
+            int blanks = 0;
+            for (char c : rack.toCharArray()) {
+                if (c == Lexicon.BLANK) {
+                    blanks++;
+                } else {
+                    counts[c - 'a']++;
+                }
+            }
+            StringBuilder played = new StringBuilder();
+            int score = 0;
+            for (char c : word.toCharArray()) {
+                if (counts[c - 'a'] > 0) {
+                    counts[c - 'a']--;
+                    played.append(c);
+                    score += LetterScores.of(c);
+                } else if (blanks > 0) {
+                    blanks--;
+                    played.append(Character.toUpperCase(c));
+                }
+            }
+            if (played.length() == word.length()) {
+                playable.put(played.toString(), score);
+            }
+        }
+        return playable;
+    }
+
+    /**
+     * @return the words of the lexicon found for the rack, in order.
+     */
+    static SortedSet<String> find(Lexicon lexicon, String rack) {
+        SortedSet<String> found = new TreeSet<>();
+        lexicon.findWords(rack.toCharArray(), (word, length, score) -> found.add(new String(word, 0, length)));
+        return found;
+    }
+
+    /**
+     * @return the words of the lexicon found for the rack, in order, with their scores.
+     */
+    static SortedMap<String, Integer> findScored(Lexicon lexicon, String rack) {
+        SortedMap<String, Integer> found = new TreeMap<>();
+        lexicon.findWords(rack.toCharArray(), (word, length, score) -> found.put(new String(word, 0, length), score));
+        return found;
+    }
+}
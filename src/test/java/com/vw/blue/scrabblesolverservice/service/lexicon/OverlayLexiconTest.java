@@ -0,0 +1,85 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.*;
+
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.find;
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.findScored;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the {@link OverlayLexicon}.
+ */
+public class OverlayLexiconTest {
+
+    @Test
+    public void addsAndRemovesWithoutChangingPreviousVersions() {
+        OverlayLexicon base = OverlayLexicon.of(LexiconType.DAWG, DawgLexicon.of(Arrays.asList("act", "cat", "tea")));
+
+        OverlayLexicon added = base.addAll(Arrays.asList("tac", "cat"));
+        OverlayLexicon removed = added.removeAll(Arrays.asList("cat", "eat"));
+
+        assertThat(find(base, "tac")).containsExactly("act", "cat");
+        assertThat(find(added, "tac")).containsExactly("act", "cat", "tac");
+        assertThat(find(removed, "tac")).containsExactly("act", "tac");
+        assertThat(find(removed, "tea")).containsExactly("tea");
+        assertThat(Arrays.asList(base.size(), added.size(), removed.size())).containsExactly(3, 4, 3);
+        assertThat(find(removed.addAll(Collections.singletonList("cat")), "tac")).containsExactly("act", "cat", "tac");
+    }
+
+    @Test
+    public void findsChangedWordsOnceWithBlanks() {
+        OverlayLexicon lexicon = OverlayLexicon.of(LexiconType.TRIE, new TrieLexicon().addAll(Arrays.asList("quiz", "quit")))
+            .addAll(Collections.singletonList("quiz"))
+            .removeAll(Collections.singletonList("quit"));
+
+        List<String> found = new ArrayList<>();
+        lexicon.findWords("qu?z".toCharArray(), (word, length, score) -> found.add(new String(word, 0, length)));
+
+        assertThat(found).containsExactly("quIz");
+        assertThat(findScored(lexicon, "qu?z")).containsEntry("quIz", 21);
+    }
+
+    @ParameterizedTest
+    @EnumSource(LexiconType.class)
+    public void holdsSameWordsAsSetAfterRandomChanges(LexiconType type) {
+        List<String> words = LexiconTestData.words().subList(0, 2_000);
+        Random random = new Random(type.ordinal());
+        OverlayLexicon lexicon = OverlayLexicon.of(type, type.empty().addAll(words.subList(0, 1_000)));
+        Set<String> expected = new TreeSet<>(words.subList(0, 1_000));
+        OverlayLexicon compactedFrom = null;
+        OverlayLexicon compacted = null;
+
+        for (int i = 0; i < 500; i++) {
+            List<String> changed = Collections.singletonList(words.get(random.nextInt(words.size())));
+            if (random.nextBoolean()) {
+                lexicon = lexicon.addAll(changed);
+                expected.addAll(changed);
+            } else {
+                lexicon = lexicon.removeAll(changed);
+                expected.removeAll(changed);
+            }
+            if (i == 200) {
+                compactedFrom = lexicon;
+                compacted = lexicon.compact();
+            }
+        }
+        // the changes made while compacting are applied to the compacted lexicon
+        OverlayLexicon rebased = compacted.withChanges(compactedFrom, lexicon);
+
+        for (OverlayLexicon checked : Arrays.asList(lexicon, rebased)) {
+            assertThat(checked.size()).isEqualTo(expected.size());
+            List<String> all = new ArrayList<>();
+            checked.forEachWord(all::add);
+            assertThat(new TreeSet<>(all)).isEqualTo(expected).hasSameSizeAs(all);
+            for (String rack : Arrays.asList("etaoinr", "aebfcghs", "aa?")) {
+                assertThat(find(checked, rack)).isEqualTo(find(type.empty().addAll(expected), rack));
+            }
+        }
+        assertThat(rebased.changeCount()).isLessThan(lexicon.changeCount());
+        assertThat(lexicon.compact().changeCount()).isZero();
+    }
+}
@@ -0,0 +1,61 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.find;
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.findScored;
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.playable;
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.spellable;
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.words;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the {@link SignatureLexicon}.
+ */
+public class SignatureLexiconTest {
+
+    @Test
+    public void findsSameWordsAsBruteForce() {
+        SignatureLexicon signature = SignatureLexicon.of(words());
+
+        assertThat(signature.size()).isEqualTo(new HashSet<>(words()).size());
+        for (String rack : Arrays.asList("bca", "aebfcghs", "etaoinr", "zzz", "qwertyuiopasdfg", "aabbccddeeff")) {
+            assertThat(find(signature, rack)).isEqualTo(spellable(rack));
+        }
+    }
+
+    @Test
+    public void findsPlayableWordsWithBlanks() {
+        SignatureLexicon signature = SignatureLexicon.of(words());
+
+        for (String rack : Arrays.asList("??", "ab?", "qu?z", "etaoi??", "?zzz?")) {
+            assertThat(findScored(signature, rack)).isEqualTo(playable(rack));
+        }
+    }
+
+    @Test
+    public void groupsAnagrams() {
+        SignatureLexicon signature = SignatureLexicon.of(Arrays.asList("listen", "silent", "enlist", "tinsel", "lists"));
+
+        assertThat(signature.size()).isEqualTo(5);
+        assertThat(signature.signatureCount()).isEqualTo(2);
+        assertThat(find(signature, "nelist")).containsExactly("enlist", "listen", "silent", "tinsel");
+        assertThat(find(signature, "nelistst")).containsExactly("enlist", "listen", "lists", "silent", "tinsel");
+        assertThat(find(signature, "nelis")).isEmpty();
+    }
+
+    @Test
+    public void addsWordsToNewLexicon() {
+        SignatureLexicon signature = SignatureLexicon.of(Arrays.asList("ab", "abc"));
+
+        Lexicon added = signature.addAll(Arrays.asList("ba", "ab"));
+
+        List<String> all = new ArrayList<>();
+        added.forEachWord(all::add);
+        assertThat(all).containsExactlyInAnyOrder("ab", "abc", "ba");
+        assertThat(find(added, "abx")).containsExactly("ab", "ba");
+        assertThat(find(signature, "abx")).containsExactly("ab");
+    }
+}
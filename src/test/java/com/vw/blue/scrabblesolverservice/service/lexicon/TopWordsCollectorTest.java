@@ -0,0 +1,81 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for the {@link TopWordsCollector}.
+ */
+public class TopWordsCollectorTest {
+
+    private static final List<String> WORDS = Arrays.asList("quiz", "quit", "quits", "suit", "tis", "its", "it", "zit");
+
+    @Test
+    public void keepsBestScoresThenAlphabeticalOrder() {
+        for (LexiconType type : LexiconType.values()) {
+            Lexicon lexicon = type.empty().addAll(WORDS);
+            TopWordsCollector collector = new TopWordsCollector(4);
+
+            lexicon.findWords("quizts".toCharArray(), collector);
+
+            assertThat(collector.getWords()).extracting(ScoredWord::getWord)
+                .as("best words of %s", type)
+                .containsExactly("quiz", "quits", "quit", "zit");
+            assertThat(collector.getWords()).extracting(ScoredWord::getScore).containsExactly(22, 14, 13, 12);
+        }
+    }
+
+    @Test
+    public void breaksTiesAlphabetically() {
+        Lexicon lexicon = LexiconType.FLAT.empty().addAll(WORDS);
+        TopWordsCollector collector = new TopWordsCollector(2);
+
+        lexicon.findWords("tis".toCharArray(), collector);
+
+        assertThat(collector.getWords().stream().map(ScoredWord::getWord).collect(Collectors.toList()))
+            .containsExactly("its", "tis");
+    }
+
+    @Test
+    public void keepsAllWordsUnderLimit() {
+        Lexicon lexicon = LexiconType.TRIE.empty().addAll(WORDS);
+        TopWordsCollector collector = new TopWordsCollector(Integer.MAX_VALUE);
+
+        lexicon.findWords("quizts".toCharArray(), collector);
+
+        assertThat(collector.getWords()).hasSize(8);
+    }
+
+    @Test
+    public void pagesThroughWords() {
+        Lexicon lexicon = LexiconType.TRIE.empty().addAll(WORDS);
+        TopWordsCollector all = new TopWordsCollector(Integer.MAX_VALUE);
+        lexicon.findWords("quizts".toCharArray(), all);
+
+        List<ScoredWord> pages = new ArrayList<>();
+        ScoredWord after = null;
+        List<ScoredWord> page;
+        do {
+            TopWordsCollector collector = new TopWordsCollector(3, after);
+            lexicon.findWords("quizts".toCharArray(), collector);
+            page = collector.getWords();
+            pages.addAll(page);
+            after = page.isEmpty() ? null : page.get(page.size() - 1);
+        } while (page.size() == 3);
+
+        assertThat(pages).extracting(ScoredWord::getWord)
+            .containsExactlyElementsOf(all.getWords().stream().map(ScoredWord::getWord).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void rejectsNonPositiveLimit() {
+        assertThatThrownBy(() -> new TopWordsCollector(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,204 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.find;
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.findScored;
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.playable;
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.spellable;
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.words;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Test class for the {@link TrieLexicon}.
+ */
+public class TrieLexiconTest {
+
+    @Test
+    public void findsSpellableWords() {
+        TrieLexicon trie = new TrieLexicon();
+        trie.addAll(words());
+
+        for (String rack : Arrays.asList("bca", "aebfcghs", "etaoinr", "zzz", "qwertyuiopasdfg", "aabbccddeeff", "eeeeeeee")) {
+            assertThat(find(trie, rack)).isEqualTo(spellable(rack));
+        }
+    }
+
+    @Test
+    public void findsPlayableWordsWithBlanks() {
+        TrieLexicon trie = new TrieLexicon();
+        trie.addAll(words());
+
+        for (String rack : Arrays.asList("??", "ab?", "qu?z", "etaoi??", "?zzz?")) {
+            assertThat(findScored(trie, rack)).isEqualTo(playable(rack));
+        }
+    }
+
+    @Test
+    public void playsBlanksOnlyForMissingLetters() {
+        TrieLexicon trie = new TrieLexicon();
+        trie.addAll(Arrays.asList("quiz", "zoo", "quizzes"));
+
+        assertThat(findScored(trie, "quz?")).containsOnly(entry("quIz", 21));
+        assertThat(findScored(trie, "zo?")).containsOnly(entry("zoO", 11));
+        assertThat(findScored(trie, "qi??")).containsOnly(entry("qUiZ", 11));
+        assertThat(findScored(trie, "qi?")).isEmpty();
+    }
+
+    @Test
+    public void summarizesWordsBelowNodes() {
+        TrieLexicon trie = new TrieLexicon();
+        trie.addAll(Arrays.asList("quiz", "quit", "quits"));
+
+        assertThat(trie.root().need).isEqualTo(mask("qui"));
+        assertThat(trie.root().minLength).isEqualTo((short) 4);
+        TrieNode qui = childOf(trie.root(), 'q');
+        assertThat(qui.need).isEqualTo(mask("qui"));
+        assertThat(qui.minLength).isEqualTo((short) 4);
+        TrieNode t = childOf(qui, 't');
+        assertThat(t.need).isEqualTo(mask("t"));
+        assertThat(t.minLength).isEqualTo((short) 1);
+
+        // the rack holds the letters of "quiz" but the node after "qui" needs a "t" or a "z"
+        assertThat(find(trie, "quiet")).containsExactly("quit");
+        assertThat(find(trie, "qui")).isEmpty();
+    }
+
+    @Test
+    public void compressesSingleChildChains() {
+        TrieLexicon trie = new TrieLexicon();
+        trie.addAll(Arrays.asList("quits", "zoo", "quiz", "quit", "ax"));
+
+        assertThat(trie.root().children).extracting(TrieLexiconTest::letters).containsExactly("ax", "qui", "zoo");
+        TrieNode qui = childOf(trie.root(), 'q');
+        assertThat(qui.children).extracting(TrieLexiconTest::letters).containsExactly("t", "z");
+        TrieNode quit = childOf(qui, 't');
+        assertThat(quit.leaf).isTrue();
+        assertThat(quit.children).extracting(TrieLexiconTest::letters).containsExactly("s");
+        assertThat(childOf(trie.root(), 'b')).isNull();
+        assertThat(find(trie, "qstiu")).containsExactly("quit", "quits");
+        assertThat(findScored(trie, "qui?")).containsOnly(entry("quiT", 12), entry("quiZ", 12));
+    }
+
+    @Test
+    public void indexesChildrenByTileAboveHalfTheAlphabet() {
+        TrieLexicon trie = new TrieLexicon();
+        trie.addAll(words());
+
+        assertThat(trie.root().children).hasSize(26).doesNotContainNull();
+        TrieNode x = childOf(trie.root(), 'x');
+        assertThat(x.children.length).isLessThan(13);
+        assertThat(x.children).extracting(node -> node.tiles[0]).isSorted();
+
+        TrieLexicon half = new TrieLexicon();
+        half.addAll(Arrays.asList("ab", "ac", "ad", "ae", "af", "ag", "ah", "ai", "aj", "ak", "al", "am", "an"));
+        assertThat(childOf(half.root(), 'a').children).hasSize(13);
+        half.insert("ao");
+        assertThat(childOf(half.root(), 'a').children).hasSize(26).containsNull();
+        assertThat(find(half, "ano")).containsExactly("an", "ao");
+        assertThat(find(half, "a?")).hasSize(14);
+    }
+
+    @Test
+    public void estimatesFootprint() {
+        TrieLexicon trie = new TrieLexicon();
+        trie.addAll(words());
+
+        TrieLexicon.Footprint footprint = trie.footprint();
+
+        assertThat(footprint.getNodes()).isLessThan(footprint.getUncompressedNodes());
+        assertThat(footprint.getCompressedNodes()).isPositive();
+        assertThat(footprint.getFullNodes()).isPositive();
+        assertThat(footprint.getBytesPerWord() * 5).isLessThan(footprint.getUncompressedBytesPerWord());
+    }
+
+    @Test
+    public void findsWordsOfMultiCharacterTiles() {
+        TrieLexicon trie = new TrieLexicon(Alphabet.SPANISH);
+        trie.addAll(Arrays.asList("llama", "lama", "calle", "cal", "chal", "año", "perro"));
+
+        // the rack is split into tiles like the words, so "ll" is a single tile
+        assertThat(findScored(trie, "llaam")).containsOnly(entry("llama", 13));
+        assertThat(findScored(trie, "lama")).containsOnly(entry("lama", 6));
+        assertThat(findScored(trie, "cllae")).containsOnly(entry("calle", 13));
+        assertThat(findScored(trie, "chal?")).containsOnly(entry("chal", 7), entry("Cal", 2));
+        assertThat(findScored(trie, "oña")).containsOnly(entry("año", 10));
+        assertThat(findScored(trie, "peo?")).containsOnly(entry("peRRo", 5));
+        List<String> words = new ArrayList<>();
+        trie.forEachWord(words::add);
+        assertThat(words).containsExactly("año", "cal", "calle", "chal", "lama", "llama", "perro");
+    }
+
+    @Test
+    public void rejectsWordsOutsideTheAlphabet() {
+        TrieLexicon trie = new TrieLexicon(Alphabet.SPANISH);
+
+        assertThatThrownBy(() -> trie.insert("kiwi")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(trie.size()).isZero();
+    }
+
+    @Test
+    public void changesNewVersionsOnly() {
+        TrieLexicon trie = new TrieLexicon(Alphabet.SPANISH);
+        trie.addAll(Arrays.asList("calle", "cal", "llama"));
+
+        TrieLexicon added = trie.withWord("chal").withWord("call");
+        TrieLexicon removed = added.withoutWord("calle").withoutWord("lama");
+
+        assertThat(find(trie, "chcllael")).containsExactly("cal", "calle");
+        assertThat(find(added, "chcllael")).containsExactly("cal", "call", "calle", "chal");
+        assertThat(find(removed, "chcllael")).containsExactly("cal", "call", "chal");
+        assertThat(Arrays.asList(trie.size(), added.size(), removed.size())).containsExactly(3, 5, 4);
+        assertThat(removed.withWord("cal")).isSameAs(removed);
+        assertThat(removed.contains("calle")).isFalse();
+        assertThat(removed.containsIgnoreCase("CaLL".toCharArray(), 4)).isTrue();
+        assertThat(removed.containsIgnoreCase("cALLE".toCharArray(), 5)).isFalse();
+    }
+
+    @Test
+    public void buildsSameTrieInParallel() {
+        TrieLexicon sequential = new TrieLexicon();
+        sequential.addAll(words());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            TrieLexicon parallel = TrieLexicon.of(words(), pool);
+
+            assertThat(parallel.size()).isEqualTo(sequential.size());
+            assertThat(parallel.root()).isEqualToComparingOnlyGivenFields(sequential.root(),
+                "leaf", "need", "minLength");
+            List<String> parallelWords = new ArrayList<>();
+            parallel.forEachWord(parallelWords::add);
+            List<String> sequentialWords = new ArrayList<>();
+            sequential.forEachWord(sequentialWords::add);
+            assertThat(parallelWords).isEqualTo(sequentialWords);
+            for (String rack : Arrays.asList("bca", "etaoinr", "qwertyuiopasdfg", "qu?z")) {
+                assertThat(findScored(parallel, rack)).isEqualTo(findScored(sequential, rack));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static TrieNode childOf(TrieNode node, char letter) {
+        return node.child(letter - 'a', Alphabet.ENGLISH.size());
+    }
+
+    private static String letters(TrieNode node) {
+        StringBuilder letters = new StringBuilder();
+        for (byte tile : node.tiles) {
+            letters.append((char) ('a' + tile));
+        }
+        return letters.toString();
+    }
+
+    private static long mask(String letters) {
+        return letters.chars().mapToLong(c -> 1L << (c - 'a')).reduce(0, (mask, bit) -> mask | bit);
+    }
+}
@@ -0,0 +1,119 @@
+package com.vw.blue.scrabblesolverservice.service.lexicon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.findScored;
+import static com.vw.blue.scrabblesolverservice.service.lexicon.LexiconTestData.words;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the {@link WordFilter}.
+ */
+public class WordFilterTest {
+
+    private static final List<WordFilter> FILTERS = Arrays.asList(
+        WordFilter.NONE,
+        new WordFilter.Builder().minLength(5).build(),
+        new WordFilter.Builder().maxLength(3).build(),
+        new WordFilter.Builder().minLength(4).maxLength(5).build(),
+        new WordFilter.Builder().letters("q").build(),
+        new WordFilter.Builder().letters("ee").build(),
+        new WordFilter.Builder().startsWith("qu").build(),
+        new WordFilter.Builder().startsWith("re").maxLength(4).build(),
+        new WordFilter.Builder().startsWith("a").endsWith("s").build(),
+        new WordFilter.Builder().endsWith("ing").build(),
+        new WordFilter.Builder().minScore(10).build(),
+        new WordFilter.Builder().minLength(7).letters("z").build());
+
+    @Test
+    public void acceptsWordsMeetingEveryCondition() {
+        WordFilter filter = new WordFilter.Builder().minLength(4).maxLength(6).letters("Q").startsWith("q")
+            .endsWith("z").minScore(20).build();
+
+        assertThat(accepts(filter, "quiz", 22)).isTrue();
+        assertThat(accepts(filter, "QuiZ", 11)).isFalse();
+        assertThat(accepts(filter, "quizz", 32)).isTrue();
+        assertThat(accepts(filter, "qiz", 21)).isFalse();
+        assertThat(accepts(filter, "quizzes", 34)).isFalse();
+        assertThat(accepts(filter, "quit", 13)).isFalse();
+        assertThat(accepts(filter, "squiz", 23)).isFalse();
+    }
+
+    @Test
+    public void comparesLettersPlayedAsBlanks() {
+        WordFilter filter = new WordFilter.Builder().letters("eq").startsWith("Qu").endsWith("e").build();
+
+        assertThat(accepts(filter, "QUeuE", 3)).isTrue();
+        assertThat(accepts(filter, "quit", 13)).isFalse();
+    }
+
+    @Test
+    public void countsRequiredLetters() {
+        WordFilter filter = new WordFilter.Builder().letters("ses").build();
+
+        assertThat(accepts(filter, "sees", 4)).isTrue();
+        assertThat(accepts(filter, "seas", 4)).isTrue();
+        assertThat(accepts(filter, "sea", 3)).isFalse();
+    }
+
+    @Test
+    public void matchesRacksHoldingTheLetters() {
+        WordFilter filter = new WordFilter.Builder().letters("qu").endsWith("s").build();
+
+        assertThat(filter.canMatch("squid".toCharArray())).isTrue();
+        assertThat(filter.canMatch("q?s".toCharArray())).isTrue();
+        assertThat(filter.canMatch("qsaaa".toCharArray())).isFalse();
+        assertThat(new WordFilter.Builder().minLength(5).maxLength(4).build().canMatch("abcdef".toCharArray()))
+            .isFalse();
+        assertThat(WordFilter.NONE.isNone()).isTrue();
+        assertThat(filter.isNone()).isFalse();
+    }
+
+    @ParameterizedTest
+    @EnumSource(LexiconType.class)
+    public void findsSameWordsAsFilteringAfterwards(LexiconType type) {
+        Lexicon lexicon = type.of(words());
+        for (String rack : Arrays.asList("etaoinr", "aebfcghs", "quizres", "qu?z", "etaoi??", "reignsat", "?????")) {
+            SortedMap<String, Integer> all = findScored(lexicon, rack);
+            for (WordFilter filter : FILTERS) {
+                SortedMap<String, Integer> expected = new TreeMap<>();
+                all.forEach((word, score) -> {
+                    if (accepts(filter, word, score)) {
+                        expected.put(word, score);
+                    }
+                });
+                SortedMap<String, Integer> found = new TreeMap<>();
+                lexicon.findWords(rack.toCharArray(), filter,
+                    (word, length, score) -> found.put(new String(word, 0, length), score));
+
+                assertThat(found).as("%s %s in %s", rack, filter, type).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void findsSameWordsInOverlayAsFilteringAfterwards() {
+        OverlayLexicon overlay = OverlayLexicon.of(LexiconType.TRIE, LexiconType.TRIE.of(words()))
+            .addAll(Arrays.asList("quiet", "requite"))
+            .removeAll(Arrays.asList("quite", "quit"));
+        WordFilter filter = new WordFilter.Builder().startsWith("qu").build();
+
+        SortedMap<String, Integer> found = new TreeMap<>();
+        overlay.findWords("quiter".toCharArray(), filter,
+            (word, length, score) -> found.put(new String(word, 0, length), score));
+
+        assertThat(found).containsKey("quiet").doesNotContainKeys("quite", "quit", "requite");
+        assertThat(found.keySet()).allMatch(word -> word.startsWith("qu"));
+    }
+
+    private static boolean accepts(WordFilter filter, String word, int score) {
+        return filter.accepts(word.toCharArray(), word.length(), score);
+    }
+}
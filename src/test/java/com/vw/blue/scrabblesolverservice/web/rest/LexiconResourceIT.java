@@ -0,0 +1,106 @@
+package com.vw.blue.scrabblesolverservice.web.rest;
+
+import com.vw.blue.scrabblesolverservice.BlueApp;
+import com.vw.blue.scrabblesolverservice.config.AsyncConfiguration;
+import com.vw.blue.scrabblesolverservice.service.LexiconRegistry;
+import com.vw.blue.scrabblesolverservice.service.WordService;
+import com.vw.blue.scrabblesolverservice.web.rest.errors.ExceptionTranslator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.concurrent.Executor;
+
+import static com.vw.blue.scrabblesolverservice.web.rest.TestUtil.createFormattingConversionService;
+import static com.vw.blue.scrabblesolverservice.web.rest.TestUtil.performAsync;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the {@link LexiconResource} REST controller.
+ */
+@SpringBootTest(classes = BlueApp.class)
+public class LexiconResourceIT {
+
+    @Autowired
+    private LexiconRegistry lexiconRegistry;
+
+    @Autowired
+    private WordService wordService;
+
+    @Autowired
+    @Qualifier(AsyncConfiguration.SEARCH_EXECUTOR)
+    private Executor searchExecutor;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    private MockMvc restLexiconMockMvc;
+
+    @BeforeEach
+    public void setup() {
+        final LexiconResource lexiconResource = new LexiconResource(lexiconRegistry, searchExecutor);
+        this.restLexiconMockMvc = MockMvcBuilders.standaloneSetup(lexiconResource)
+            .setControllerAdvice(exceptionTranslator)
+            .setConversionService(createFormattingConversionService())
+            .setMessageConverters(jacksonMessageConverter).build();
+    }
+
+    @Test
+    public void searchWordsOfNamedLexicon() throws Exception {
+        wordService.insertTextToTrie("tca");
+
+        performAsync(restLexiconMockMvc, get("/api/lexicons/house/words/search/tac"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").value(contains("act", "cat", "tac")));
+        performAsync(restLexiconMockMvc, get("/api/lexicons/default/words/search/tac"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").value(hasItem("tca")));
+        performAsync(restLexiconMockMvc, get("/api/lexicons/house/words/search/tac"))
+            .andExpect(jsonPath("$").value(not(hasItem("tca"))));
+    }
+
+    @Test
+    public void searchWordsWithLimitAndBlank() throws Exception {
+        performAsync(restLexiconMockMvc, get("/api/lexicons/house/words/search/{str}", "quz?").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").value(contains("quIz")));
+    }
+
+    @Test
+    public void getAllLexicons() throws Exception {
+        performAsync(restLexiconMockMvc, get("/api/lexicons/house/words/search/zax"))
+            .andExpect(status().isOk());
+
+        restLexiconMockMvc.perform(get("/api/lexicons"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].name").value(contains("default", "house")))
+            .andExpect(jsonPath("$.[1].type").value("DAWG"))
+            .andExpect(jsonPath("$.[1].loaded").value(true))
+            .andExpect(jsonPath("$.[1].size").value(5));
+    }
+
+    @Test
+    public void searchWordsOfUnknownLexicon() throws Exception {
+        performAsync(restLexiconMockMvc, get("/api/lexicons/unknown/words/search/tac"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void searchWordsWithInvalidLimit() throws Exception {
+        performAsync(restLexiconMockMvc, get("/api/lexicons/house/words/search/tac").param("limit", "0"))
+            .andExpect(status().isBadRequest());
+    }
+}
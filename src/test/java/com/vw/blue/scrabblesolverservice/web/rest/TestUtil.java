@@ -10,6 +10,10 @@ import org.springframework.format.datetime.standard.DateTimeFormatterRegistrar;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.format.support.FormattingConversionService;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 
 import java.io.IOException;
 import java.time.ZonedDateTime;
@@ -23,6 +27,7 @@ import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Root;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 
 /**
  * Utility class for testing REST controllers.
@@ -55,6 +60,25 @@ public final class TestUtil {
         return mapper.writeValueAsBytes(object);
     }
 
+    /**
+     * Perform a request whose handler may answer asynchronously, and dispatch its result once it is there. A request
+     * failing before the handler goes asynchronous, like an invalid one, is answered right away.
+     *
+     * @param mockMvc the MockMvc performing the request.
+     * @param requestBuilder the request.
+     * @return the actions on the response.
+     * @throws Exception if the request fails.
+     */
+    public static ResultActions performAsync(MockMvc mockMvc, RequestBuilder requestBuilder) throws Exception {
+        ResultActions actions = mockMvc.perform(requestBuilder);
+        MvcResult result = actions.andReturn();
+        if (!result.getRequest().isAsyncStarted()) {
+            return actions;
+        }
+        result.getAsyncResult();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
     /**
      * Create a byte array with a specific size filled with specified data.
      *
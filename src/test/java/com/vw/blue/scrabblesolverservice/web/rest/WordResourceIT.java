@@ -1,8 +1,10 @@
 package com.vw.blue.scrabblesolverservice.web.rest;
 
 import com.vw.blue.scrabblesolverservice.BlueApp;
+import com.vw.blue.scrabblesolverservice.config.AsyncConfiguration;
 import com.vw.blue.scrabblesolverservice.domain.Word;
 import com.vw.blue.scrabblesolverservice.repository.WordRepository;
+import com.vw.blue.scrabblesolverservice.service.WordBatchService;
 import com.vw.blue.scrabblesolverservice.service.WordService;
 import com.vw.blue.scrabblesolverservice.web.rest.errors.ExceptionTranslator;
 
@@ -10,7 +12,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
@@ -43,6 +47,13 @@ public class WordResourceIT {
     @Autowired
     private WordService wordService;
 
+    @Autowired
+    private WordBatchService wordBatchService;
+
+    @Autowired
+    @Qualifier(AsyncConfiguration.SEARCH_EXECUTOR)
+    private AsyncTaskExecutor searchExecutor;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -65,7 +76,7 @@ public class WordResourceIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final WordResource wordResource = new WordResource(wordService);
+        final WordResource wordResource = new WordResource(wordService, wordBatchService, searchExecutor);
         this.restWordMockMvc = MockMvcBuilders.standaloneSetup(wordResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
@@ -1,24 +1,55 @@
 package com.vw.blue.scrabblesolverservice.web.rest;
 
+import com.jayway.jsonpath.JsonPath;
 import com.vw.blue.scrabblesolverservice.BlueApp;
+import com.vw.blue.scrabblesolverservice.config.AsyncConfiguration;
+import com.vw.blue.scrabblesolverservice.domain.Word;
+import com.vw.blue.scrabblesolverservice.service.WordBatchService;
 import com.vw.blue.scrabblesolverservice.service.WordService;
+import com.vw.blue.scrabblesolverservice.service.lexicon.Board;
+import com.vw.blue.scrabblesolverservice.web.rest.vm.BoardVM;
+import com.vw.blue.scrabblesolverservice.web.rest.vm.WordBatchVM;
 import com.vw.blue.scrabblesolverservice.web.rest.errors.ExceptionTranslator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.validation.Validator;
 
 import static com.vw.blue.scrabblesolverservice.web.rest.TestUtil.createFormattingConversionService;
+import static com.vw.blue.scrabblesolverservice.web.rest.TestUtil.performAsync;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
@@ -31,6 +62,13 @@ class WordResourceWordSearchIT {
     @Autowired
     private WordService wordService;
 
+    @Autowired
+    private WordBatchService wordBatchService;
+
+    @Autowired
+    @Qualifier(AsyncConfiguration.SEARCH_EXECUTOR)
+    private AsyncTaskExecutor searchExecutor;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -48,7 +86,7 @@ class WordResourceWordSearchIT {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final WordResource wordResource = new WordResource(wordService);
+        final WordResource wordResource = new WordResource(wordService, wordBatchService, searchExecutor);
         this.restWordMockMvc = MockMvcBuilders.standaloneSetup(wordResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
@@ -65,7 +103,7 @@ class WordResourceWordSearchIT {
     public void findWordsOnTrieAll() throws Exception {
 
         // Search words
-        restWordMockMvc.perform(get("/api/words/search/{str}", "aebfcghs")
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "aebfcghs")
             .accept(TestUtil.APPLICATION_JSON))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
@@ -77,7 +115,7 @@ class WordResourceWordSearchIT {
     public void findWordsOnTrieSingle() throws Exception {
 
         // Search words
-        restWordMockMvc.perform(get("/api/words/search/{str}", "bca")
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "bca")
             .accept(TestUtil.APPLICATION_JSON))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
@@ -89,11 +127,371 @@ class WordResourceWordSearchIT {
     public void findWordsOnTrieNone() throws Exception {
 
         // Search words
-        restWordMockMvc.perform(get("/api/words/search/{str}", "zzz")
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "zzz")
             .accept(TestUtil.APPLICATION_JSON))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$").isArray())
             .andExpect(jsonPath("$").value(empty()));
     }
+
+    @Test
+    public void findWordsOnTrieBlank() throws Exception {
+
+        // Search words with the "c" played as a blank
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "ab?")
+            .accept(TestUtil.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").value(hasItems("abC")));
+    }
+
+    @Test
+    public void findWordsOnTrieLimit() throws Exception {
+
+        // Search the best word
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "aebfcghs")
+            .param("limit", "1")
+            .accept(TestUtil.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").value(hasSize(1)));
+    }
+
+    @Test
+    public void findWordsOnTrieInvalidLimit() throws Exception {
+
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "aebfcghs")
+            .param("limit", "0")
+            .accept(TestUtil.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void findWordsOnTrieFiltered() throws Exception {
+
+        // Search the words starting with "c" and containing "s"
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "aebfcghs")
+            .param("startsWith", "c")
+            .param("letters", "S")
+            .param("minLength", "3")
+            .param("maxLength", "3")
+            .param("minScore", "7")
+            .accept(TestUtil.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").value(hasItem(TRIE_DATA_CBS)))
+            .andExpect(jsonPath("$").value(not(hasItem(TRIE_DATA_ABC))));
+    }
+
+    @Test
+    public void findWordsOnTriePaged() throws Exception {
+        assertPagedThroughAllWords("aebfcghs", "aebfcghs");
+        // the blanks stay encoded once in the links
+        assertPagedThroughAllWords("aebfcg??", "aebfcg%3F%3F");
+    }
+
+    private void assertPagedThroughAllWords(String rack, String encodedRack) throws Exception {
+        List<String> all = JsonPath.read(performAsync(restWordMockMvc, get("/api/words/search/{str}", rack)
+            .accept(TestUtil.APPLICATION_JSON))
+            .andReturn().getResponse().getContentAsString(), "$");
+
+        // Follow the links to the next pages
+        List<String> paged = new ArrayList<>();
+        String next = "/api/words/search/" + encodedRack + "?limit=2";
+        while (next != null) {
+            MockHttpServletResponse response = performAsync(restWordMockMvc, get(URI.create(next))
+                .accept(TestUtil.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+            List<String> page = JsonPath.read(response.getContentAsString(), "$");
+            paged.addAll(page);
+            String link = response.getHeader(HttpHeaders.LINK);
+            next = link == null ? null : link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+        }
+        assertThat(paged).isEqualTo(all);
+    }
+
+    @Test
+    public void findWordsOnTrieInvalidFilter() throws Exception {
+
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "aebfcghs")
+            .param("minLength", "5")
+            .param("maxLength", "4")
+            .accept(TestUtil.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "aebfcghs")
+            .param("letters", "a1")
+            .accept(TestUtil.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "aebfcghs")
+            .param("limit", "2")
+            .param("cursor", "not a cursor")
+            .accept(TestUtil.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void findWordsOnTrieOverloaded() throws Exception {
+        // A single search thread, busy, and no room to wait
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+        CountDownLatch busy = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    busy.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            MockMvc overloadedMockMvc = MockMvcBuilders
+                .standaloneSetup(new WordResource(wordService, wordBatchService, executor))
+                .setControllerAdvice(exceptionTranslator)
+                .setConversionService(createFormattingConversionService())
+                .setMessageConverters(jacksonMessageConverter)
+                .setValidator(validator).build();
+
+            overloadedMockMvc.perform(get("/api/words/search/{str}", "aebfcghs")
+                .accept(TestUtil.APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.message").value("error.overloaded"));
+        } finally {
+            busy.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void searchBatch() throws Exception {
+        WordBatchVM batch = new WordBatchVM();
+        batch.setRacks(Arrays.asList("bca", "zzz", "cab", "ab?"));
+
+        performAsync(restWordMockMvc, post("/api/words/search:batch")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(batch)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").value(hasSize(4)))
+            .andExpect(jsonPath("$[0].rack").value("bca"))
+            .andExpect(jsonPath("$[0].words").value(hasItem(TRIE_DATA_ABC)))
+            .andExpect(jsonPath("$[0].shared").value(false))
+            .andExpect(jsonPath("$[0].durationMicros").isNumber())
+            .andExpect(jsonPath("$[1].words").value(empty()))
+            .andExpect(jsonPath("$[2].rack").value("cab"))
+            .andExpect(jsonPath("$[2].words").value(hasItem(TRIE_DATA_ABC)))
+            .andExpect(jsonPath("$[2].shared").value(true))
+            .andExpect(jsonPath("$[3].words").value(hasItem("abC")));
+    }
+
+    @Test
+    public void searchBatchInvalidRacks() throws Exception {
+        WordBatchVM batch = new WordBatchVM();
+        batch.setRacks(Collections.singletonList("ab-c"));
+
+        performAsync(restWordMockMvc, post("/api/words/search:batch")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(batch)))
+            .andExpect(status().isBadRequest());
+
+        batch.setRacks(Collections.emptyList());
+        performAsync(restWordMockMvc, post("/api/words/search:batch")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(batch)))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void streamWordsOnTrie() throws Exception {
+
+        // Stream words, one JSON object per line
+        MvcResult result = restWordMockMvc.perform(get("/api/words/search/{str}/stream", "aebfcghs")
+            .accept(WordResource.APPLICATION_NDJSON_VALUE))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        restWordMockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(WordResource.APPLICATION_NDJSON_VALUE))
+            .andExpect(content().string(containsString("{\"word\":\"abc\",\"score\":7}\n")))
+            .andExpect(content().string(containsString("{\"word\":\"cbs\",\"score\":7}\n")));
+    }
+
+    @Test
+    public void streamWordsOnTrieBlank() throws Exception {
+
+        // Stream words with the "c" played as a blank, which scores no point
+        MvcResult result = restWordMockMvc.perform(get("/api/words/search/{str}/stream", "ab?")
+            .accept(WordResource.APPLICATION_NDJSON_VALUE))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        restWordMockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("{\"word\":\"abC\",\"score\":4}\n")));
+    }
+
+    @Test
+    public void streamWordsOnTrieNone() throws Exception {
+
+        MvcResult result = restWordMockMvc.perform(get("/api/words/search/{str}/stream", "zzz")
+            .accept(WordResource.APPLICATION_NDJSON_VALUE))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        restWordMockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    public void streamWordsOnTrieOverloaded() throws Exception {
+        // A single search thread, busy, and no room to wait
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+        CountDownLatch busy = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    busy.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            MockMvc overloadedMockMvc = MockMvcBuilders
+                .standaloneSetup(new WordResource(wordService, wordBatchService, executor))
+                .setControllerAdvice(exceptionTranslator)
+                .setConversionService(createFormattingConversionService())
+                .setMessageConverters(jacksonMessageConverter)
+                .setValidator(validator).build();
+
+            performAsync(overloadedMockMvc, get("/api/words/search/{str}/stream", "aebfcghs")
+                .accept(WordResource.APPLICATION_NDJSON_VALUE))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        } finally {
+            busy.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void findBestMoves() throws Exception {
+        BoardVM boardVM = new BoardVM();
+        boardVM.setBoard(emptyBoard());
+        boardVM.setRack("ab?");
+
+        performAsync(restWordMockMvc, post("/api/words/moves")
+            .param("limit", "1")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(boardVM)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").value(hasSize(1)))
+            .andExpect(jsonPath("$[0].score").value(greaterThan(0)));
+    }
+
+    @Test
+    public void findBestMovesInvalidBoard() throws Exception {
+        List<String> board = emptyBoard();
+        board.set(7, "...");
+        BoardVM boardVM = new BoardVM();
+        boardVM.setBoard(board);
+        boardVM.setRack("ab?");
+
+        performAsync(restWordMockMvc, post("/api/words/moves")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(boardVM)))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void findWordsOnTrieAfterCommittedChanges() throws Exception {
+        Word word = new Word("qzxz");
+
+        // Create the word
+        String created = restWordMockMvc.perform(post("/api/words")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(word)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        word.setId(Long.valueOf(JsonPath.read(created, "$.id").toString()));
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "qzxzz"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").value(hasItems("qzxz")));
+
+        // Update it
+        word.setText("qzxzz");
+        restWordMockMvc.perform(put("/api/words")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(word)))
+            .andExpect(status().isOk());
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "qzxzz"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").value(hasItems("qzxzz")))
+            .andExpect(jsonPath("$").value(not(hasItem("qzxz"))));
+
+        // Delete it
+        restWordMockMvc.perform(delete("/api/words/{id}", word.getId()))
+            .andExpect(status().isNoContent());
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "qzxzz"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").value(empty()));
+    }
+
+    @Test
+    public void findWordsOnTrieAfterChangesOfCaseVariants() throws Exception {
+        Word upper = createWord("Qzxq");
+        Word lower = createWord("qzxq");
+
+        // Rename the upper case variant, the lower case one is still found
+        upper.setText("Qzxqq");
+        restWordMockMvc.perform(put("/api/words")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(upper)))
+            .andExpect(status().isOk());
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "qzxqq"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").value(hasItems("qzxq", "qzxqq")));
+
+        // Rename it back to a case variant, then delete it
+        upper.setText("QZXQ");
+        restWordMockMvc.perform(put("/api/words")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(upper)))
+            .andExpect(status().isOk());
+        restWordMockMvc.perform(delete("/api/words/{id}", upper.getId()))
+            .andExpect(status().isNoContent());
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "qzxqq"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").value(hasItems("qzxq")))
+            .andExpect(jsonPath("$").value(not(hasItem("qzxqq"))));
+
+        // Delete the last variant
+        restWordMockMvc.perform(delete("/api/words/{id}", lower.getId()))
+            .andExpect(status().isNoContent());
+        performAsync(restWordMockMvc, get("/api/words/search/{str}", "qzxqq"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").value(empty()));
+    }
+
+    private Word createWord(String text) throws Exception {
+        Word word = new Word(text);
+        String created = restWordMockMvc.perform(post("/api/words")
+            .contentType(TestUtil.APPLICATION_JSON)
+            .content(TestUtil.convertObjectToJsonBytes(word)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        word.setId(Long.valueOf(JsonPath.read(created, "$.id").toString()));
+        return word;
+    }
+
+    private static List<String> emptyBoard() {
+        return new ArrayList<>(Collections.nCopies(Board.SIZE, "..............."));
+    }
 }